@@ -0,0 +1,106 @@
+package io.goorm.backend.command;
+
+import io.goorm.backend.util.ByteRange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * sendfile을 쓸 수 없을 때의 다운로드 전송 방식 비교 (1/10/100MB)
+ *
+ * - streamCopy: 이전 방식 (InputStream + 8KB 버퍼)
+ * - bufferedCopy: 현재 방식 (FileChannel 위치 지정 읽기 + 버퍼, FileDownloadCommand.copyRange)
+ * - channelTransferTo: OutputStream을 Channels.newChannel로 감싼 transferTo
+ *
+ * 출력은 버리는 스트림이라 디스크 -> 힙 복사 비용만 비교함
+ * sendfile 경로는 Tomcat 커넥터가 처리하므로 여기서는 측정할 수 없음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileCopyBenchmark {
+
+  @Param({ "1", "10", "100" })
+  private int sizeMb;
+
+  @Param({ "8192", "65536" })
+  private int bufferSize;
+
+  private Path file;
+  private ByteRange range;
+  private byte[] buffer;
+  private final OutputStream sink = OutputStream.nullOutputStream();
+
+  @Setup(Level.Trial)
+  public void createFile() throws IOException {
+    file = Files.createTempFile("download-bench", ".bin");
+    byte[] chunk = new byte[1024 * 1024];
+    new Random(42).nextBytes(chunk);
+    try (OutputStream out = Files.newOutputStream(file)) {
+      for (int i = 0; i < sizeMb; i++) {
+        out.write(chunk);
+      }
+    }
+    range = new ByteRange(0, Files.size(file) - 1);
+    buffer = new byte[bufferSize];
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteFile() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public void streamCopy() throws IOException {
+    try (InputStream in = Files.newInputStream(file)) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        sink.write(buffer, 0, read);
+      }
+    }
+  }
+
+  @Benchmark
+  public void bufferedCopy() throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      FileDownloadCommand.copyRange(channel, range, sink, buffer);
+    }
+  }
+
+  @Benchmark
+  public void channelTransferTo() throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      WritableByteChannel target = Channels.newChannel(sink);
+      long position = 0;
+      long size = channel.size();
+      while (position < size) {
+        position += channel.transferTo(position, Math.min(bufferSize, size - position), target);
+      }
+    }
+  }
+}
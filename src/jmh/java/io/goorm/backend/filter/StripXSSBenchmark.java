@@ -0,0 +1,78 @@
+package io.goorm.backend.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * stripXSS 현재 구현(한 번 훑기)과 이전 구현(replaceAll 연쇄) 비교
+ *
+ * - korean / english: 바꿀 것이 없는 일반 게시글 본문
+ * - markup: 태그와 이벤트 핸들러가 섞인 입력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StripXSSBenchmark {
+
+  @Param({ "korean", "english", "markup" })
+  private String kind;
+
+  private String input;
+
+  @Setup
+  public void createInput() {
+    String sentence;
+    switch (kind) {
+      case "korean":
+        sentence = "오늘 스터디에서는 서블릿 필터와 커맨드 패턴을 정리했습니다. 질문은 댓글로 남겨 주세요. ";
+        break;
+      case "english":
+        sentence = "Today we went over servlet filters and the command pattern. Leave questions below. ";
+        break;
+      default:
+        sentence = "<p onclick=\"alert(1)\">본문</p><a href=\"javascript:void(0)\">link</a> ";
+        break;
+    }
+    input = sentence.repeat(20);
+  }
+
+  @Benchmark
+  public String current() {
+    return XSSFilter.XSSRequestWrapper.stripXSS(input);
+  }
+
+  @Benchmark
+  public String legacy() {
+    return legacyStripXSS(input);
+  }
+
+  // 이전 구현 그대로
+  private static String legacyStripXSS(String value) {
+    value = value.replaceAll("<", "&lt;").replaceAll(">", "&gt;");
+    value = value.replaceAll("(?i)<script.*?>.*?</script.*?>", "");
+    value = value.replaceAll("(?i)<script.*?>", "");
+    value = value.replaceAll("(?i)on\\w+\\s*=", "");
+    value = value.replaceAll("(?i)javascript:", "");
+    value = value.replaceAll("(?i)vbscript:", "");
+    value = value.replaceAll("(?i)expression\\s*\\(", "");
+    value = value.replaceAll("(?i)eval\\s*\\(", "");
+    value = value.replaceAll("(?i)<iframe.*?>.*?</iframe.*?>", "");
+    value = value.replaceAll("(?i)<object.*?>.*?</object.*?>", "");
+    value = value.replaceAll("(?i)<embed.*?>", "");
+    return value;
+  }
+}
@@ -1,14 +1,25 @@
 package io.goorm.backend;
 
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import io.goorm.backend.cache.BoardListCache;
 import io.goorm.backend.config.DatabaseConfig;
+import io.goorm.backend.metrics.InstrumentedJdbcTemplate;
+import io.goorm.backend.model.BoardCursor;
+import io.goorm.backend.model.PageResult;
+import io.goorm.backend.search.BoardSearchIndex;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.function.Consumer;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 
 /**
  * Board Data Access Object
@@ -17,9 +28,12 @@ import java.sql.PreparedStatement;
 public class BoardDAO {
 
   private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
 
   public BoardDAO() {
-    this.jdbcTemplate = new JdbcTemplate(DatabaseConfig.getDataSource());
+    this.jdbcTemplate = new InstrumentedJdbcTemplate(DatabaseConfig.getDataSource());
+    this.transactionTemplate = new TransactionTemplate(
+        new DataSourceTransactionManager(DatabaseConfig.getDataSource()));
   }
 
   // RowMapper 정의
@@ -34,31 +48,80 @@ public class BoardDAO {
     return board;
   };
 
+  // 목록용 RowMapper - content 컬럼을 읽지 않음
+  private RowMapper<BoardSummary> boardSummaryRowMapper = (rs, rowNum) -> {
+    BoardSummary summary = new BoardSummary();
+    summary.setId(rs.getLong("id"));
+    summary.setTitle(rs.getString("title"));
+    summary.setAuthor(rs.getString("author"));
+    summary.setAuthorName(rs.getString("author_name"));
+    summary.setCreatedAt(rs.getTimestamp("created_at"));
+    return summary;
+  };
+
+  // 목록 조회 시 가져올 컬럼 (content 제외)
+  private static final String SUMMARY_COLUMNS = "b.id, b.title, b.author, b.created_at";
+
   /**
    * 게시글 목록 조회
    */
-  public List<Board> getBoardList() {
-    String sql = "SELECT b.*, u.name as author_name FROM board b " +
+  public List<BoardSummary> getBoardList() {
+    String sql = "SELECT " + SUMMARY_COLUMNS + ", u.name as author_name FROM board b " +
         "LEFT JOIN users u ON b.author = u.id " +
         "ORDER BY b.created_at DESC";
-    return jdbcTemplate.query(sql, boardRowMapper);
+    return jdbcTemplate.query(sql, boardSummaryRowMapper);
   }
 
   /**
-   * 게시글 상세 조회
+   * 게시글 상세 조회 (첨부파일 포함)
    */
   public Board getBoardById(Long id) {
+    return getBoardById(id, true);
+  }
+
+  /**
+   * 게시글 상세 조회
+   * 게시글(+작성자 이름)과 첨부파일을 커넥션 하나에서 연달아 조회
+   * 권한 확인만 필요한 경우 withAttachments=false로 첨부파일 쿼리 생략
+   */
+  public Board getBoardById(Long id, boolean withAttachments) {
     String sql = "SELECT b.*, u.name as author_name FROM board b " +
         "LEFT JOIN users u ON b.author = u.id " +
         "WHERE b.id = ?";
     try {
-      Board board = jdbcTemplate.queryForObject(sql, boardRowMapper, id);
-      if (board != null) {
-        // 첨부파일 정보도 함께 조회
-        loadAttachments(board);
-      }
-      return board;
+      return jdbcTemplate.execute((ConnectionCallback<Board>) con -> {
+        Board board = InstrumentedJdbcTemplate.timed(sql, () -> {
+          try (PreparedStatement ps = con.prepareStatement(sql)) {
+            ps.setLong(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+              return rs.next() ? boardRowMapper.mapRow(rs, 0) : null;
+            }
+          }
+        });
+        if (board == null) {
+          return null;
+        }
+
+        if (withAttachments) {
+          // 첨부파일 정보도 같은 커넥션으로 조회
+          board.setAttachments(InstrumentedJdbcTemplate.timed(FileUploadDAO.SELECT_BY_BOARD_ID_SQL, () -> {
+            List<FileUpload> attachments = new ArrayList<>();
+            try (PreparedStatement ps = con.prepareStatement(FileUploadDAO.SELECT_BY_BOARD_ID_SQL)) {
+              ps.setLong(1, id);
+              try (ResultSet rs = ps.executeQuery()) {
+                int rowNum = 0;
+                while (rs.next()) {
+                  attachments.add(FileUploadDAO.fileUploadRowMapper.mapRow(rs, rowNum++));
+                }
+              }
+            }
+            return attachments;
+          }));
+        }
+        return board;
+      });
     } catch (Exception e) {
+      e.printStackTrace();
       return null;
     }
   }
@@ -67,6 +130,33 @@ public class BoardDAO {
    * 게시글 작성
    */
   public Long insertBoard(Board board) {
+    Long generatedId = insertBoardRow(board);
+    afterBoardInserted(board);
+    return generatedId; // 생성된 board_id 반환
+  }
+
+  /**
+   * 게시글과 첨부파일 정보를 한 트랜잭션으로 저장
+   * 첨부파일은 배치 INSERT 한 번으로 기록하고, 어느 하나라도 실패하면 게시글까지 롤백
+   */
+  public Long insertBoardWithAttachments(Board board, List<FileUpload> attachments) {
+    FileUploadDAO fileUploadDAO = new FileUploadDAO();
+
+    Long generatedId = transactionTemplate.execute(status -> {
+      Long boardId = insertBoardRow(board);
+      for (FileUpload attachment : attachments) {
+        attachment.setBoardId(boardId);
+      }
+      fileUploadDAO.insertFileUploads(attachments);
+      return boardId;
+    });
+
+    // 커밋된 후에만 색인/캐시에 반영
+    afterBoardInserted(board);
+    return generatedId;
+  }
+
+  private Long insertBoardRow(Board board) {
     KeyHolder keyHolder = new GeneratedKeyHolder();
 
     String sql = "INSERT INTO board (title, content, author) VALUES (?, ?, ?)";
@@ -82,17 +172,61 @@ public class BoardDAO {
     Long generatedId = keyHolder.getKey().longValue();
     board.setId(generatedId);
     System.out.println("생성된 게시글 ID: " + board.getId());
+    return generatedId;
+  }
 
-    return generatedId; // 생성된 board_id 반환
+  // 검색 색인 반영 및 목록 캐시 무효화
+  private void afterBoardInserted(Board board) {
+    String authorName = board.getAuthorName() != null ? board.getAuthorName() : getAuthorName(board.getAuthor());
+    BoardSearchIndex.getInstance().addBoard(board.getId(), board.getTitle(), board.getContent(), authorName);
+    BoardListCache.getInstance().invalidateAll();
   }
 
   /**
    * 게시글 수정
    */
   public boolean updateBoard(Board board) {
+    boolean updated = updateBoardRow(board);
+    if (updated) {
+      afterBoardUpdated(board);
+    }
+    return updated;
+  }
+
+  /**
+   * 게시글 수정과 새 첨부파일 정보를 한 트랜잭션으로 저장
+   * 게시글이 없으면 첨부파일도 기록하지 않고 false 반환
+   */
+  public boolean updateBoardWithAttachments(Board board, List<FileUpload> attachments) {
+    FileUploadDAO fileUploadDAO = new FileUploadDAO();
+
+    Boolean updated = transactionTemplate.execute(status -> {
+      if (!updateBoardRow(board)) {
+        return false;
+      }
+      for (FileUpload attachment : attachments) {
+        attachment.setBoardId(board.getId());
+      }
+      fileUploadDAO.insertFileUploads(attachments);
+      return true;
+    });
+
+    if (Boolean.TRUE.equals(updated)) {
+      afterBoardUpdated(board);
+      return true;
+    }
+    return false;
+  }
+
+  private boolean updateBoardRow(Board board) {
     String sql = "UPDATE board SET title = ?, content = ? WHERE id = ?";
-    int result = jdbcTemplate.update(sql, board.getTitle(), board.getContent(), board.getId());
-    return result > 0;
+    return jdbcTemplate.update(sql, board.getTitle(), board.getContent(), board.getId()) > 0;
+  }
+
+  // 검색 색인 반영 및 해당 게시글이 포함된 목록 캐시 무효화
+  private void afterBoardUpdated(Board board) {
+    BoardSearchIndex.getInstance().updateBoard(board.getId(), board.getTitle(), board.getContent());
+    BoardListCache.getInstance().invalidateBoard(board.getId());
   }
 
   /**
@@ -101,26 +235,67 @@ public class BoardDAO {
   public boolean deleteBoard(Long id) {
     String sql = "DELETE FROM board WHERE id = ?";
     int result = jdbcTemplate.update(sql, id);
+    if (result > 0) {
+      BoardSearchIndex.getInstance().removeBoard(id);
+      BoardListCache.getInstance().invalidateAll();
+    }
     return result > 0;
   }
 
+  /**
+   * 전체 게시글을 한 건씩 순회 (검색 색인 구축용)
+   * 결과를 한꺼번에 List로 만들지 않고 ResultSet을 흘려 읽음
+   */
+  public void forEachBoard(Consumer<Board> consumer) {
+    String sql = "SELECT b.*, u.name as author_name FROM board b " +
+        "LEFT JOIN users u ON b.author = u.id";
+    int[] rowNum = { 0 };
+    jdbcTemplate.query(sql, rs -> {
+      consumer.accept(boardRowMapper.mapRow(rs, rowNum[0]++));
+    });
+  }
+
+  /**
+   * 작성자 ID로 사용자 이름 조회
+   */
+  private String getAuthorName(String author) {
+    try {
+      List<String> names = jdbcTemplate.queryForList("SELECT name FROM users WHERE id = ?", String.class, author);
+      return names.isEmpty() ? null : names.get(0);
+    } catch (Exception e) {
+      e.printStackTrace();
+      return null;
+    }
+  }
+
   /**
    * 제목으로 게시글 검색
    */
-  public List<Board> searchByTitle(String keyword) {
-    String sql = "SELECT * FROM board WHERE title LIKE ? ORDER BY created_at DESC";
+  public List<BoardSummary> searchByTitle(String keyword) {
+    String sql = "SELECT " + SUMMARY_COLUMNS + ", u.name as author_name FROM board b " +
+        "LEFT JOIN users u ON b.author = u.id " +
+        "WHERE b.title LIKE ? ORDER BY b.created_at DESC, b.id DESC";
     String searchKeyword = "%" + keyword + "%";
-    return jdbcTemplate.query(sql, boardRowMapper, searchKeyword);
+    return jdbcTemplate.query(sql, boardSummaryRowMapper, searchKeyword);
   }
 
   /**
    * 전체 게시글 수 조회
    */
   public int getTotalBoardCount() {
+    BoardListCache cache = BoardListCache.getInstance();
+    Integer cached = cache.getTotalCount();
+    if (cached != null) {
+      return cached;
+    }
+
     String sql = "SELECT COUNT(*) FROM board";
     try {
+      long generation = cache.currentGeneration();
       Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
-      return count != null ? count : 0;
+      int total = count != null ? count : 0;
+      cache.putTotalCount(total, generation);
+      return total;
     } catch (Exception e) {
       e.printStackTrace();
       return 0;
@@ -130,39 +305,28 @@ public class BoardDAO {
   /**
    * 페이지네이션을 적용한 게시글 목록 조회
    */
-  public List<Board> getBoardListWithPagination(int page, int pageSize) {
-    String sql = "SELECT b.*, u.name as author_name FROM board b " +
+  public List<BoardSummary> getBoardListWithPagination(int page, int pageSize) {
+    String sql = "SELECT " + SUMMARY_COLUMNS + ", u.name as author_name FROM board b " +
         "LEFT JOIN users u ON b.author = u.id " +
-        "ORDER BY b.created_at DESC " +
+        "ORDER BY b.created_at DESC, b.id DESC " +
         "LIMIT ? OFFSET ?";
 
     int offset = (page - 1) * pageSize;
-    return jdbcTemplate.query(sql, boardRowMapper, pageSize, offset);
+    return jdbcTemplate.query(sql, boardSummaryRowMapper, pageSize, offset);
   }
 
   /**
    * 검색 결과 게시글 수 조회
    */
   public int getSearchBoardCount(String searchType, String searchKeyword) {
-    String sql = "SELECT COUNT(*) FROM board WHERE ";
-
-    switch (searchType) {
-      case "title":
-        sql += "title LIKE ?";
-        break;
-      case "content":
-        sql += "content LIKE ?";
-        break;
-      case "author":
-        sql += "author IN (SELECT id FROM users WHERE name LIKE ?)";
-        break;
-      default:
-        sql += "title LIKE ?";
+    SearchFilter filter = buildSearchFilter(searchType, searchKeyword);
+    if (filter.isEmpty()) {
+      return 0;
     }
+    String sql = "SELECT COUNT(*) FROM board b WHERE " + filter.condition;
 
     try {
-      String searchPattern = "%" + searchKeyword + "%";
-      Integer count = jdbcTemplate.queryForObject(sql, Integer.class, searchPattern);
+      Integer count = jdbcTemplate.queryForObject(sql, Integer.class, filter.args());
       return count != null ? count : 0;
     } catch (Exception e) {
       e.printStackTrace();
@@ -173,44 +337,211 @@ public class BoardDAO {
   /**
    * 검색 결과에 페이지네이션 적용
    */
-  public List<Board> searchBoardWithPagination(String searchType, String searchKeyword, int page, int pageSize) {
-    String sql = "SELECT b.*, u.name as author_name FROM board b " +
+  public List<BoardSummary> searchBoardWithPagination(String searchType, String searchKeyword, int page, int pageSize) {
+    SearchFilter filter = buildSearchFilter(searchType, searchKeyword);
+    if (filter.isEmpty()) {
+      return new ArrayList<>();
+    }
+    String sql = "SELECT " + SUMMARY_COLUMNS + ", u.name as author_name FROM board b " +
         "LEFT JOIN users u ON b.author = u.id " +
-        "WHERE ";
+        "WHERE " + filter.condition + " " +
+        "ORDER BY b.created_at DESC, b.id DESC LIMIT ? OFFSET ?";
 
-    switch (searchType) {
-      case "title":
-        sql += "b.title LIKE ? ";
-        break;
-      case "content":
-        sql += "b.content LIKE ? ";
-        break;
-      case "author":
-        sql += "b.author IN (SELECT id FROM users WHERE name LIKE ?) ";
-        break;
-      default:
-        sql += "b.title LIKE ? ";
+    int offset = (page - 1) * pageSize;
+    return jdbcTemplate.query(sql, boardSummaryRowMapper, filter.args(pageSize, offset));
+  }
+
+  /**
+   * 페이지 목록과 전체 게시글 수를 한 번의 쿼리로 조회
+   * COUNT(*) OVER()가 LIMIT 적용 전 전체 건수를 각 행에 함께 실어 보냄
+   * 자주 보는 앞쪽 페이지는 BoardListCache에서 바로 반환
+   */
+  public PageResult<BoardSummary> getBoardPage(int page, int pageSize) {
+    BoardListCache cache = BoardListCache.getInstance();
+    PageResult<BoardSummary> cached = cache.getPage(page, pageSize);
+    if (cached != null) {
+      return cached;
+    }
+    long generation = cache.currentGeneration();
+
+    String sql = "SELECT " + SUMMARY_COLUMNS + ", u.name as author_name, COUNT(*) OVER() AS total_count FROM board b " +
+        "LEFT JOIN users u ON b.author = u.id " +
+        "ORDER BY b.created_at DESC, b.id DESC " +
+        "LIMIT ? OFFSET ?";
+
+    int offset = (page - 1) * pageSize;
+    PageResult<BoardSummary> result = jdbcTemplate.query(sql, pageExtractor(boardSummaryRowMapper), pageSize, offset);
+
+    // 마지막 페이지를 넘어선 요청이면 행이 없어 건수를 알 수 없으므로 따로 조회
+    if (result.getItems().isEmpty() && offset > 0) {
+      return new PageResult<>(result.getItems(), getTotalBoardCount());
     }
+    cache.putPage(page, pageSize, result, generation);
+    return result;
+  }
 
-    sql += "ORDER BY b.created_at DESC LIMIT ? OFFSET ?";
+  /**
+   * 검색 결과 페이지와 전체 검색 건수를 한 번의 쿼리로 조회
+   * LIKE 조건을 한 번만 평가
+   */
+  public PageResult<BoardSummary> searchBoardPage(String searchType, String searchKeyword, int page, int pageSize) {
+    SearchFilter filter = buildSearchFilter(searchType, searchKeyword);
+    if (filter.isEmpty()) {
+      return new PageResult<>(new ArrayList<>(), 0);
+    }
+    String sql = "SELECT " + SUMMARY_COLUMNS + ", u.name as author_name, COUNT(*) OVER() AS total_count FROM board b " +
+        "LEFT JOIN users u ON b.author = u.id " +
+        "WHERE " + filter.condition + " " +
+        "ORDER BY b.created_at DESC, b.id DESC LIMIT ? OFFSET ?";
 
     int offset = (page - 1) * pageSize;
+    PageResult<BoardSummary> result = jdbcTemplate.query(sql, pageExtractor(boardSummaryRowMapper),
+        filter.args(pageSize, offset));
+
+    if (result.getItems().isEmpty() && offset > 0) {
+      return new PageResult<>(result.getItems(), getSearchBoardCount(searchType, searchKeyword));
+    }
+    return result;
+  }
+
+  /**
+   * 행 목록과 total_count 컬럼을 함께 읽는 ResultSetExtractor
+   */
+  private <T> ResultSetExtractor<PageResult<T>> pageExtractor(RowMapper<T> rowMapper) {
+    return rs -> {
+      List<T> items = new ArrayList<>();
+      int totalCount = 0;
+      int rowNum = 0;
+      while (rs.next()) {
+        if (rowNum == 0) {
+          totalCount = rs.getInt("total_count");
+        }
+        items.add(rowMapper.mapRow(rs, rowNum++));
+      }
+      return new PageResult<>(items, totalCount);
+    };
+  }
+
+  /**
+   * 커서 이후의 게시글 목록 조회 (키셋 페이지네이션)
+   * OFFSET 없이 (created_at, id) 인덱스를 타므로 뒤쪽 페이지도 첫 페이지와 같은 비용
+   * cursor가 null이면 첫 페이지
+   */
+  public List<BoardSummary> getBoardListAfter(BoardCursor cursor, int limit) {
+    String sql = "SELECT " + SUMMARY_COLUMNS + ", u.name as author_name FROM board b " +
+        "LEFT JOIN users u ON b.author = u.id ";
+
+    if (cursor == null) {
+      sql += "ORDER BY b.created_at DESC, b.id DESC LIMIT ?";
+      return jdbcTemplate.query(sql, boardSummaryRowMapper, limit);
+    }
+
+    sql += "WHERE " + KEYSET_CONDITION + " " +
+        "ORDER BY b.created_at DESC, b.id DESC LIMIT ?";
+    return jdbcTemplate.query(sql, boardSummaryRowMapper,
+        cursor.getCreatedAt(), cursor.getCreatedAt(), cursor.getId(), limit);
+  }
+
+  /**
+   * 커서 이후의 검색 결과 조회 (키셋 페이지네이션)
+   */
+  public List<BoardSummary> searchBoardAfter(String searchType, String searchKeyword, BoardCursor cursor, int limit) {
+    SearchFilter filter = buildSearchFilter(searchType, searchKeyword);
+    if (filter.isEmpty()) {
+      return new ArrayList<>();
+    }
+    String sql = "SELECT " + SUMMARY_COLUMNS + ", u.name as author_name FROM board b " +
+        "LEFT JOIN users u ON b.author = u.id " +
+        "WHERE " + filter.condition + " ";
+
+    if (cursor == null) {
+      sql += "ORDER BY b.created_at DESC, b.id DESC LIMIT ?";
+      return jdbcTemplate.query(sql, boardSummaryRowMapper, filter.args(limit));
+    }
+
+    sql += "AND " + KEYSET_CONDITION + " " +
+        "ORDER BY b.created_at DESC, b.id DESC LIMIT ?";
+    return jdbcTemplate.query(sql, boardSummaryRowMapper,
+        filter.args(cursor.getCreatedAt(), cursor.getCreatedAt(), cursor.getId(), limit));
+  }
+
+  // (created_at, id)가 커서보다 뒤(과거)인 행 - idx_board_created_at_id 인덱스 사용
+  private static final String KEYSET_CONDITION =
+      "(b.created_at < ? OR (b.created_at = ? AND b.id < ?))";
+
+  // 검색 색인 후보가 이보다 많으면 IN 목록 대신 LIKE 전체 검색 (선택도가 낮은 검색어)
+  private static final int MAX_INDEX_CANDIDATES = 1000;
+
+  /**
+   * 검색 WHERE 조건과 바인딩 값 구성
+   * 검색 색인이 후보 ID를 주면 "b.id IN (...)"으로 후보 행만 읽고 LIKE로 최종 확인
+   */
+  private SearchFilter buildSearchFilter(String searchType, String searchKeyword) {
+    String likeCondition = buildSearchCondition(searchType);
     String searchPattern = "%" + searchKeyword + "%";
 
-    return jdbcTemplate.query(sql, boardRowMapper, searchPattern, pageSize, offset);
+    List<Long> candidates = BoardSearchIndex.getInstance().findCandidates(searchType, searchKeyword);
+    if (candidates == null || candidates.size() > MAX_INDEX_CANDIDATES) {
+      return new SearchFilter(likeCondition, new Object[] { searchPattern });
+    }
+    if (candidates.isEmpty()) {
+      return SearchFilter.EMPTY;
+    }
+
+    StringBuilder condition = new StringBuilder("b.id IN (");
+    Object[] args = new Object[candidates.size() + 1];
+    for (int i = 0; i < candidates.size(); i++) {
+      condition.append(i == 0 ? "?" : ", ?");
+      args[i] = candidates.get(i);
+    }
+    condition.append(") AND ").append(likeCondition);
+    args[candidates.size()] = searchPattern;
+    return new SearchFilter(condition.toString(), args);
   }
 
   /**
-   * 게시글의 첨부파일 정보 로드
+   * 검색 WHERE 조건과 그 바인딩 값
    */
-  private void loadAttachments(Board board) {
-    try {
-      FileUploadDAO fileUploadDAO = new FileUploadDAO();
-      List<FileUpload> attachments = fileUploadDAO.getFilesByBoardId(board.getId());
-      board.setAttachments(attachments);
-    } catch (Exception e) {
-      e.printStackTrace();
-      board.setAttachments(new ArrayList<>());
+  private static class SearchFilter {
+    static final SearchFilter EMPTY = new SearchFilter(null, new Object[0]);
+
+    final String condition;
+    private final Object[] conditionArgs;
+
+    SearchFilter(String condition, Object[] conditionArgs) {
+      this.condition = condition;
+      this.conditionArgs = conditionArgs;
+    }
+
+    // 색인 결과 후보가 없어 쿼리할 필요가 없음
+    boolean isEmpty() {
+      return condition == null;
+    }
+
+    // 조건 바인딩 값 뒤에 추가 값(LIMIT, OFFSET 등)을 붙여 반환
+    Object[] args(Object... extra) {
+      Object[] all = new Object[conditionArgs.length + extra.length];
+      System.arraycopy(conditionArgs, 0, all, 0, conditionArgs.length);
+      System.arraycopy(extra, 0, all, conditionArgs.length, extra.length);
+      return all;
+    }
+  }
+
+  /**
+   * 검색 유형별 WHERE 조건 (board 테이블 별칭은 b)
+   */
+  private String buildSearchCondition(String searchType) {
+    if (searchType == null) {
+      return "b.title LIKE ?";
+    }
+    switch (searchType) {
+      case "content":
+        return "b.content LIKE ?";
+      case "author":
+        return "b.author IN (SELECT id FROM users WHERE name LIKE ?)";
+      case "title":
+      default:
+        return "b.title LIKE ?";
     }
   }
 }
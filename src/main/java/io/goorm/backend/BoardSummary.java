@@ -0,0 +1,72 @@
+package io.goorm.backend;
+
+import java.sql.Timestamp;
+
+/**
+ * 게시글 목록용 요약 객체
+ * 목록 화면에 필요한 컬럼만 담고 본문(content)과 첨부파일은 포함하지 않음
+ */
+public class BoardSummary {
+  private Long id;
+  private String title;
+  private String author; // 사용자 ID (문자열)
+  private String authorName; // 사용자 이름 (JOIN으로 가져옴)
+  private Timestamp createdAt;
+
+  // 기본 생성자
+  public BoardSummary() {
+  }
+
+  // Getter 메서드들
+  public Long getId() {
+    return id;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+
+  public String getAuthor() {
+    return author;
+  }
+
+  public String getAuthorName() {
+    return authorName;
+  }
+
+  public Timestamp getCreatedAt() {
+    return createdAt;
+  }
+
+  // Setter 메서드들
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public void setTitle(String title) {
+    this.title = title;
+  }
+
+  public void setAuthor(String author) {
+    this.author = author;
+  }
+
+  public void setAuthorName(String authorName) {
+    this.authorName = authorName;
+  }
+
+  public void setCreatedAt(Timestamp createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  // toString 메서드
+  @Override
+  public String toString() {
+    return "BoardSummary{" +
+        "id=" + id +
+        ", title='" + title + '\'' +
+        ", author='" + author + '\'' +
+        ", createdAt=" + createdAt +
+        '}';
+  }
+}
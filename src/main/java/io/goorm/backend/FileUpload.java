@@ -14,6 +14,9 @@ public class FileUpload {
   private Timestamp uploadDate;
   private String fileType; // "file" 또는 "image"
   private String webUrl; // 웹에서 접근 가능한 URL (이미지인 경우)
+  private String contentHash; // 파일 내용의 SHA-256 (같은 내용은 같은 물리 파일을 공유)
+  private String thumbnailPath; // 썸네일 물리 경로 (이미지, 생성 전에는 null)
+  private String thumbnailUrl; // 썸네일 웹 URL (생성 전에는 null이므로 원본 사용)
 
   // 기본 생성자
   public FileUpload() {
@@ -76,6 +79,18 @@ public class FileUpload {
     return webUrl;
   }
 
+  public String getContentHash() {
+    return contentHash;
+  }
+
+  public String getThumbnailPath() {
+    return thumbnailPath;
+  }
+
+  public String getThumbnailUrl() {
+    return thumbnailUrl;
+  }
+
   // Setter 메서드들
   public void setId(Long id) {
     this.id = id;
@@ -117,6 +132,18 @@ public class FileUpload {
     this.webUrl = webUrl;
   }
 
+  public void setContentHash(String contentHash) {
+    this.contentHash = contentHash;
+  }
+
+  public void setThumbnailPath(String thumbnailPath) {
+    this.thumbnailPath = thumbnailPath;
+  }
+
+  public void setThumbnailUrl(String thumbnailUrl) {
+    this.thumbnailUrl = thumbnailUrl;
+  }
+
   // 파일 타입 확인 메서드
   public boolean isImage() {
     return "image".equals(fileType);
@@ -139,6 +166,8 @@ public class FileUpload {
         ", uploadDate=" + uploadDate +
         ", fileType='" + fileType + '\'' +
         ", webUrl='" + webUrl + '\'' +
+        ", contentHash='" + contentHash + '\'' +
+        ", thumbnailUrl='" + thumbnailUrl + '\'' +
         '}';
   }
 
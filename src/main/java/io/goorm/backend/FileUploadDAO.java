@@ -1,24 +1,32 @@
 package io.goorm.backend;
 
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import io.goorm.backend.config.DatabaseConfig;
+import io.goorm.backend.metrics.InstrumentedJdbcTemplate;
 import java.util.List;
 import java.util.ArrayList;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 
 public class FileUploadDAO {
   private JdbcTemplate jdbcTemplate;
 
+  // 게시글별 첨부파일 조회 SQL (BoardDAO 상세 조회에서도 사용)
+  static final String SELECT_BY_BOARD_ID_SQL =
+      "SELECT * FROM file_upload WHERE board_id = ? ORDER BY upload_date DESC";
+
   public FileUploadDAO() {
-    this.jdbcTemplate = new JdbcTemplate(DatabaseConfig.getDataSource());
+    this.jdbcTemplate = new InstrumentedJdbcTemplate(DatabaseConfig.getDataSource());
   }
 
   // 파일 업로드 정보 저장
   public boolean insertFileUpload(FileUpload fileUpload) {
     String sql = "INSERT INTO file_upload (board_id, original_filename, stored_filename, " +
-        "file_path, file_size, content_type, upload_date, file_type, web_url) " +
-        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        "file_path, file_size, content_type, upload_date, file_type, web_url, content_hash) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
     try {
       int result = jdbcTemplate.update(sql,
@@ -30,7 +38,8 @@ public class FileUploadDAO {
           fileUpload.getContentType(),
           fileUpload.getUploadDate(),
           fileUpload.getFileType(),
-          fileUpload.getWebUrl());
+          fileUpload.getWebUrl(),
+          fileUpload.getContentHash());
       return result > 0;
     } catch (Exception e) {
       e.printStackTrace();
@@ -38,12 +47,43 @@ public class FileUploadDAO {
     }
   }
 
+  // 여러 첨부파일 정보를 한 번의 배치로 저장
+  // 예외를 삼키지 않으므로 트랜잭션 안에서 호출하면 실패 시 함께 롤백됨
+  public void insertFileUploads(List<FileUpload> fileUploads) {
+    if (fileUploads.isEmpty()) {
+      return;
+    }
+    String sql = "INSERT INTO file_upload (board_id, original_filename, stored_filename, " +
+        "file_path, file_size, content_type, upload_date, file_type, web_url, content_hash) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement ps, int i) throws SQLException {
+        FileUpload fileUpload = fileUploads.get(i);
+        ps.setLong(1, fileUpload.getBoardId());
+        ps.setString(2, fileUpload.getOriginalFilename());
+        ps.setString(3, fileUpload.getStoredFilename());
+        ps.setString(4, fileUpload.getFilePath());
+        ps.setLong(5, fileUpload.getFileSize());
+        ps.setString(6, fileUpload.getContentType());
+        ps.setTimestamp(7, fileUpload.getUploadDate());
+        ps.setString(8, fileUpload.getFileType());
+        ps.setString(9, fileUpload.getWebUrl());
+        ps.setString(10, fileUpload.getContentHash());
+      }
+
+      @Override
+      public int getBatchSize() {
+        return fileUploads.size();
+      }
+    });
+  }
+
   // 게시글 ID로 첨부파일 목록 조회
   public List<FileUpload> getFilesByBoardId(Long boardId) {
-    String sql = "SELECT * FROM file_upload WHERE board_id = ? ORDER BY upload_date DESC";
-
     try {
-      return jdbcTemplate.query(sql, fileUploadRowMapper, boardId);
+      return jdbcTemplate.query(SELECT_BY_BOARD_ID_SQL, fileUploadRowMapper, boardId);
     } catch (Exception e) {
       e.printStackTrace();
       return new ArrayList<>();
@@ -90,8 +130,21 @@ public class FileUploadDAO {
     }
   }
 
-  // RowMapper 정의
-  private RowMapper<FileUpload> fileUploadRowMapper = (rs, rowNum) -> {
+  // 썸네일 정보 기록 - 같은 물리 파일을 공유하는 행 모두 갱신
+  public int updateThumbnail(String filePath, String thumbnailPath, String thumbnailUrl) {
+    String sql = "UPDATE file_upload SET thumbnail_path = ?, thumbnail_url = ? WHERE file_path = ?";
+    return jdbcTemplate.update(sql, thumbnailPath, thumbnailUrl, filePath);
+  }
+
+  // 같은 물리 파일을 참조하는 행 수 (공유 파일의 참조 카운트)
+  public int countByFilePath(String filePath) {
+    String sql = "SELECT COUNT(*) FROM file_upload WHERE file_path = ?";
+    Integer count = jdbcTemplate.queryForObject(sql, Integer.class, filePath);
+    return count != null ? count : 0;
+  }
+
+  // RowMapper 정의 (BoardDAO 상세 조회에서도 사용)
+  static final RowMapper<FileUpload> fileUploadRowMapper = (rs, rowNum) -> {
     FileUpload fileUpload = new FileUpload();
     fileUpload.setId(rs.getLong("id"));
     fileUpload.setBoardId(rs.getLong("board_id"));
@@ -103,6 +156,9 @@ public class FileUploadDAO {
     fileUpload.setUploadDate(rs.getTimestamp("upload_date"));
     fileUpload.setFileType(rs.getString("file_type"));
     fileUpload.setWebUrl(rs.getString("web_url"));
+    fileUpload.setContentHash(rs.getString("content_hash"));
+    fileUpload.setThumbnailPath(rs.getString("thumbnail_path"));
+    fileUpload.setThumbnailUrl(rs.getString("thumbnail_url"));
     return fileUpload;
   };
 }
@@ -3,6 +3,7 @@ package io.goorm.backend;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import io.goorm.backend.config.DatabaseConfig;
+import io.goorm.backend.metrics.InstrumentedJdbcTemplate;
 
 /**
  * 사용자 데이터 접근 객체
@@ -11,7 +12,7 @@ public class UserDAO {
     private JdbcTemplate jdbcTemplate;
 
     public UserDAO() {
-        this.jdbcTemplate = new JdbcTemplate(DatabaseConfig.getDataSource());
+        this.jdbcTemplate = new InstrumentedJdbcTemplate(DatabaseConfig.getDataSource());
     }
 
     // RowMapper 정의
@@ -0,0 +1,172 @@
+package io.goorm.backend.cache;
+
+import io.goorm.backend.BoardSummary;
+import io.goorm.backend.model.PageResult;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색 없는 게시글 목록 페이지 캐시 (LRU + TTL)
+ * - 키: 페이지 번호 + 페이지 크기
+ * - 작성/삭제: 전체 건수와 모든 페이지의 행 위치가 바뀌므로 전부 무효화
+ * - 수정: 해당 게시글이 들어 있는 페이지만 무효화 (건수는 그대로)
+ */
+public class BoardListCache {
+  private static BoardListCache instance;
+
+  private static final int MAX_ENTRIES = 100;
+  private static final long TTL_MILLIS = 60 * 1000L;
+
+  private final LinkedHashMap<String, Entry<PageResult<BoardSummary>>> pages;
+  private Entry<Integer> totalCount;
+
+  // 무효화될 때마다 증가 - 조회 도중 무효화된 결과가 캐시에 들어가는 것을 막음
+  private long generation;
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  private BoardListCache() {
+    // accessOrder=true: 최근 사용 순서 유지, 가장 오래 안 쓴 항목부터 제거
+    pages = new LinkedHashMap<String, Entry<PageResult<BoardSummary>>>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry<PageResult<BoardSummary>>> eldest) {
+        if (size() > MAX_ENTRIES) {
+          evictionCount.incrementAndGet();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  public static synchronized BoardListCache getInstance() {
+    if (instance == null) {
+      instance = new BoardListCache();
+    }
+    return instance;
+  }
+
+  /**
+   * 캐시된 페이지 조회 - 없거나 만료되었으면 null
+   */
+  public synchronized PageResult<BoardSummary> getPage(int page, int pageSize) {
+    String key = key(page, pageSize);
+    Entry<PageResult<BoardSummary>> entry = pages.get(key);
+    if (entry == null) {
+      missCount.incrementAndGet();
+      return null;
+    }
+    if (entry.isExpired()) {
+      pages.remove(key);
+      evictionCount.incrementAndGet();
+      missCount.incrementAndGet();
+      return null;
+    }
+    hitCount.incrementAndGet();
+    return entry.value;
+  }
+
+  /**
+   * 페이지 저장 - 조회 시작 후 무효화가 있었다면 저장하지 않음
+   */
+  public synchronized void putPage(int page, int pageSize, PageResult<BoardSummary> result, long fromGeneration) {
+    if (fromGeneration != generation) {
+      return;
+    }
+    PageResult<BoardSummary> readOnly = new PageResult<>(
+        Collections.unmodifiableList(result.getItems()), result.getTotalCount());
+    pages.put(key(page, pageSize), new Entry<>(readOnly));
+  }
+
+  public synchronized Integer getTotalCount() {
+    if (totalCount == null || totalCount.isExpired()) {
+      missCount.incrementAndGet();
+      totalCount = null;
+      return null;
+    }
+    hitCount.incrementAndGet();
+    return totalCount.value;
+  }
+
+  public synchronized void putTotalCount(int count, long fromGeneration) {
+    if (fromGeneration == generation) {
+      totalCount = new Entry<>(count);
+    }
+  }
+
+  /**
+   * DB 조회 전에 호출 - put 시 함께 넘겨 중간 무효화 여부를 확인
+   */
+  public synchronized long currentGeneration() {
+    return generation;
+  }
+
+  /**
+   * 게시글 작성/삭제 시 - 모든 페이지와 전체 건수 무효화
+   */
+  public synchronized void invalidateAll() {
+    generation++;
+    pages.clear();
+    totalCount = null;
+  }
+
+  /**
+   * 게시글 수정 시 - 해당 게시글이 들어 있는 페이지만 무효화
+   */
+  public synchronized void invalidateBoard(Long boardId) {
+    generation++;
+    Iterator<Entry<PageResult<BoardSummary>>> it = pages.values().iterator();
+    while (it.hasNext()) {
+      for (BoardSummary summary : it.next().value.getItems()) {
+        if (summary.getId().equals(boardId)) {
+          it.remove();
+          break;
+        }
+      }
+    }
+  }
+
+  // 통계 Getter 메서드들
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  public synchronized int getSize() {
+    return pages.size();
+  }
+
+  private String key(int page, int pageSize) {
+    return page + ":" + pageSize;
+  }
+
+  /**
+   * 만료 시각을 가진 캐시 항목
+   */
+  private static class Entry<T> {
+    final T value;
+    final long expiresAt;
+
+    Entry(T value) {
+      this.value = value;
+      this.expiresAt = System.currentTimeMillis() + TTL_MILLIS;
+    }
+
+    boolean isExpired() {
+      return System.currentTimeMillis() > expiresAt;
+    }
+  }
+}
@@ -0,0 +1,239 @@
+package io.goorm.backend.cache;
+
+import io.goorm.backend.FileUpload;
+import io.goorm.backend.config.UploadConfig;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 자주 내려받는 첨부파일 캐시 (전체 바이트 수 기준 LRU)
+ * - 모든 다운로드의 파일 정보(메타데이터)를 보관해 DB 조회를 생략
+ * - 크기 기준 이하의 파일은 두 번째 다운로드부터 내용을 힙 밖(direct) 버퍼에 보관해 디스크 읽기도 생략
+ *   (memory-mapped 파일은 Windows에서 매핑된 동안 삭제할 수 없어 direct 버퍼에 복사)
+ * - 파일 삭제/게시글 삭제 시 무효화
+ */
+public class HotFileCache {
+  private static HotFileCache instance;
+
+  // 메타데이터 항목 하나의 대략적인 크기
+  private static final long METADATA_BYTES = 512;
+  // 이 횟수 이상 내려받은 파일만 내용을 보관
+  private static final int CONTENT_ADMISSION_HITS = 2;
+
+  private final long maxBytes;
+  private final long maxContentSize;
+  private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long residentBytes;
+
+  // 무효화될 때마다 증가 - 조회 도중 삭제된 파일 정보가 캐시에 들어가는 것을 막음
+  private long generation;
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  private HotFileCache() {
+    UploadConfig uploadConfig = UploadConfig.getInstance();
+    this.maxBytes = uploadConfig.getHotCacheMaxBytes();
+    this.maxContentSize = uploadConfig.getHotCacheContentMaxSize();
+  }
+
+  public static synchronized HotFileCache getInstance() {
+    if (instance == null) {
+      instance = new HotFileCache();
+    }
+    return instance;
+  }
+
+  /**
+   * 캐시된 파일 조회 - 없으면 null
+   * 여러 번 내려받은 작은 파일은 이때 내용을 읽어 보관
+   */
+  public Entry get(Long fileId) {
+    Entry entry;
+    synchronized (this) {
+      entry = entries.get(fileId);
+      if (entry == null) {
+        missCount.incrementAndGet();
+        return null;
+      }
+      hitCount.incrementAndGet();
+      entry.hits++;
+      if (!shouldLoadContent(entry)) {
+        return entry;
+      }
+      entry.loading = true;
+    }
+
+    // 파일 읽기는 잠금 밖에서
+    ByteBuffer content = readContent(entry.path, entry.size);
+
+    synchronized (this) {
+      entry.loading = false;
+      if (content != null && entries.get(fileId) == entry) {
+        entry.content = content;
+        residentBytes += content.capacity();
+        evictIfNeeded();
+      }
+    }
+    return entry;
+  }
+
+  /**
+   * DB 조회 전에 호출 - put 시 함께 넘겨 중간 무효화 여부를 확인
+   */
+  public synchronized long currentGeneration() {
+    return generation;
+  }
+
+  /**
+   * 파일 정보 저장 (내용은 다시 내려받을 때 보관)
+   * 조회 시작 후 무효화가 있었다면 저장하지 않고 이번 요청에만 쓸 항목을 반환
+   */
+  public synchronized Entry put(FileUpload fileUpload, Path path, long size, long fromGeneration) {
+    Entry entry = new Entry(fileUpload, path, size);
+    if (fromGeneration != generation) {
+      return entry;
+    }
+    Entry previous = entries.put(fileUpload.getId(), entry);
+    if (previous != null) {
+      residentBytes -= previous.bytes();
+    }
+    residentBytes += entry.bytes();
+    evictIfNeeded();
+    return entry;
+  }
+
+  public synchronized void invalidate(Long fileId) {
+    generation++;
+    Entry removed = entries.remove(fileId);
+    if (removed != null) {
+      residentBytes -= removed.bytes();
+    }
+  }
+
+  // 게시글 삭제 시 그 게시글의 첨부파일 모두 제거
+  public synchronized void invalidateBoard(Long boardId) {
+    generation++;
+    Iterator<Entry> iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      Entry entry = iterator.next();
+      if (boardId.equals(entry.fileUpload.getBoardId())) {
+        residentBytes -= entry.bytes();
+        iterator.remove();
+      }
+    }
+  }
+
+  public synchronized void invalidateAll() {
+    generation++;
+    entries.clear();
+    residentBytes = 0;
+  }
+
+  private boolean shouldLoadContent(Entry entry) {
+    return entry.content == null && !entry.loading && entry.hits >= CONTENT_ADMISSION_HITS
+        && entry.size <= maxContentSize && entry.size <= Integer.MAX_VALUE;
+  }
+
+  // 가장 오래 안 쓴 항목부터 제거
+  private void evictIfNeeded() {
+    Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+    while (residentBytes > maxBytes && iterator.hasNext()) {
+      Entry eldest = iterator.next().getValue();
+      residentBytes -= eldest.bytes();
+      iterator.remove();
+      evictionCount.incrementAndGet();
+    }
+  }
+
+  private static ByteBuffer readContent(Path path, long size) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) {
+          return null; // 읽는 도중 파일이 줄어든 경우
+        }
+      }
+      buffer.flip();
+      return buffer.asReadOnlyBuffer();
+    } catch (IOException e) {
+      System.out.println("캐시용 파일 읽기 실패: " + path + " - " + e.getMessage());
+      return null;
+    }
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  public double getHitRatio() {
+    long hits = hitCount.get();
+    long total = hits + missCount.get();
+    return total == 0 ? 0.0 : (double) hits / total;
+  }
+
+  public synchronized long getResidentBytes() {
+    return residentBytes;
+  }
+
+  public synchronized int getSize() {
+    return entries.size();
+  }
+
+  /**
+   * 캐시 항목 - 파일 정보, 검증된 경로, 크기와 (보관된 경우) 내용
+   */
+  public static class Entry {
+    private final FileUpload fileUpload;
+    private final Path path;
+    private final long size;
+    private volatile ByteBuffer content;
+    private int hits;
+    private boolean loading;
+
+    private Entry(FileUpload fileUpload, Path path, long size) {
+      this.fileUpload = fileUpload;
+      this.path = path;
+      this.size = size;
+    }
+
+    private long bytes() {
+      return METADATA_BYTES + (content != null ? content.capacity() : 0);
+    }
+
+    public FileUpload getFileUpload() {
+      return fileUpload;
+    }
+
+    public Path getPath() {
+      return path;
+    }
+
+    public long getSize() {
+      return size;
+    }
+
+    // 보관된 내용 (읽기 전용, 호출마다 독립된 위치) - 없으면 null
+    public ByteBuffer getContent() {
+      ByteBuffer buffer = content;
+      return buffer != null ? buffer.duplicate() : null;
+    }
+  }
+}
@@ -3,10 +3,15 @@ package io.goorm.backend.command;
 import io.goorm.backend.BoardDAO;
 import io.goorm.backend.Board;
 import io.goorm.backend.User;
+import io.goorm.backend.FileUpload;
+import io.goorm.backend.FileUploadDAO;
+import io.goorm.backend.cache.HotFileCache;
+import io.goorm.backend.storage.BlobStore;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
+import java.util.List;
 
 public class BoardDeleteCommand implements Command {
 
@@ -30,9 +35,9 @@ public class BoardDeleteCommand implements Command {
         return null;
       }
 
-      // 권한 확인 (본인이 작성한 글만 삭제 가능)
+      // 권한 확인 (본인이 작성한 글만 삭제 가능) - 첨부파일은 필요 없음
       BoardDAO dao = new BoardDAO();
-      Board board = dao.getBoardById(id);
+      Board board = dao.getBoardById(id, false);
       if (board == null) {
         request.setAttribute("error", "존재하지 않는 게시글입니다.");
         return "/board/list.jsp";
@@ -45,10 +50,16 @@ public class BoardDeleteCommand implements Command {
       }
 
       if ("true".equals(confirm)) {
-        // 삭제 확인됨 - 실제 삭제 처리
+        // 삭제 확인됨 - 실제 삭제 처리 (첨부파일 행은 CASCADE로 함께 삭제되므로 경로를 미리 조회)
+        List<FileUpload> attachments = new FileUploadDAO().getFilesByBoardId(id);
         boolean deleted = dao.deleteBoard(id);
 
         if (deleted) {
+          HotFileCache.getInstance().invalidateBoard(id);
+          // 다른 게시글이 참조하지 않는 물리 파일 삭제
+          for (FileUpload attachment : attachments) {
+            BlobStore.getInstance().release(attachment.getFilePath());
+          }
           response.sendRedirect("front?command=boardList");
           return null;
         } else {
@@ -1,7 +1,9 @@
 package io.goorm.backend.command;
 
 import io.goorm.backend.BoardDAO;
-import io.goorm.backend.Board;
+import io.goorm.backend.BoardSummary;
+import io.goorm.backend.model.BoardCursor;
+import io.goorm.backend.model.PageResult;
 import io.goorm.backend.model.Pagination;
 
 import javax.servlet.http.HttpServletRequest;
@@ -33,20 +35,41 @@ public class BoardListCommand implements Command {
       }
 
       BoardDAO boardDAO = new BoardDAO();
-      int totalCount;
-      List<Board> boards;
-
-      // 검색어가 있는 경우와 없는 경우 구분
-      if (searchKeyword != null && !searchKeyword.trim().isEmpty()) {
-        totalCount = boardDAO.getSearchBoardCount(searchType, searchKeyword);
-        boards = boardDAO.searchBoardWithPagination(searchType, searchKeyword, currentPage, pageSize);
-      } else {
-        totalCount = boardDAO.getTotalBoardCount();
-        boards = boardDAO.getBoardListWithPagination(currentPage, pageSize);
+      boolean hasKeyword = searchKeyword != null && !searchKeyword.trim().isEmpty();
+
+      // cursor 파라미터가 있으면 키셋 페이지네이션 (OFFSET 없이 다음 페이지 조회)
+      String cursorParam = request.getParameter("cursor");
+      if (cursorParam != null) {
+        BoardCursor cursor = BoardCursor.decode(cursorParam);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<BoardSummary> rows = hasKeyword
+            ? boardDAO.searchBoardAfter(searchType, searchKeyword, cursor, pageSize + 1)
+            : boardDAO.getBoardListAfter(cursor, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<BoardSummary> boards = hasNext ? rows.subList(0, pageSize) : rows;
+        if (hasNext) {
+          BoardSummary last = boards.get(boards.size() - 1);
+          request.setAttribute("nextCursor", new BoardCursor(last.getCreatedAt(), last.getId()).encode());
+        }
+
+        request.setAttribute("boards", boards);
+        request.setAttribute("cursor", cursor != null ? cursor.encode() : "");
+        request.setAttribute("searchType", searchType);
+        request.setAttribute("searchKeyword", searchKeyword);
+
+        return "/board/list.jsp";
       }
 
+      // 페이지 목록과 전체 건수를 한 번의 쿼리로 조회
+      PageResult<BoardSummary> result = hasKeyword
+          ? boardDAO.searchBoardPage(searchType, searchKeyword, currentPage, pageSize)
+          : boardDAO.getBoardPage(currentPage, pageSize);
+      List<BoardSummary> boards = result.getItems();
+
       // 페이지네이션 객체 생성
-      Pagination pagination = new Pagination(currentPage, pageSize, totalCount);
+      Pagination pagination = new Pagination(currentPage, pageSize, result.getTotalCount());
 
       // 요청 속성에 데이터 설정
       request.setAttribute("boards", boards);
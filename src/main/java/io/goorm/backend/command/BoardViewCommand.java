@@ -2,12 +2,9 @@ package io.goorm.backend.command;
 
 import io.goorm.backend.Board;
 import io.goorm.backend.BoardDAO;
-import io.goorm.backend.FileUpload;
-import io.goorm.backend.FileUploadDAO;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.util.List;
 
 public class BoardViewCommand implements Command {
 
@@ -21,31 +18,16 @@ public class BoardViewCommand implements Command {
       }
 
       Long id = Long.parseLong(idStr);
+
+      // 게시글과 첨부파일을 함께 조회
       BoardDAO dao = new BoardDAO();
-      Board board = dao.getBoardById(id);
+      Board board = dao.getBoardById(id, true);
 
       if (board == null) {
         request.setAttribute("error", "존재하지 않는 게시글입니다.");
         return "/board/list.jsp";
       }
 
-      // 첨부파일 정보 로드
-      try {
-        FileUploadDAO fileDAO = new FileUploadDAO();
-        List<FileUpload> attachments = fileDAO.getFilesByBoardId(id);
-        board.setAttachments(attachments);
-        System.out.println("=== BoardViewCommand 첨부파일 로딩 ===");
-        System.out.println("게시글 ID: " + id);
-        System.out.println("첨부파일 개수: " + attachments.size());
-        for (FileUpload file : attachments) {
-          System.out.println("파일: " + file.getOriginalFilename() + " (크기: " + file.getFileSize() + ")");
-        }
-        System.out.println("================================");
-      } catch (Exception e) {
-        System.out.println("첨부파일 로딩 실패: " + e.getMessage());
-        e.printStackTrace();
-      }
-
       request.setAttribute("board", board);
       return "/board/view.jsp";
 
@@ -0,0 +1,111 @@
+package io.goorm.backend.command;
+
+import io.goorm.backend.User;
+import io.goorm.backend.storage.ChunkedUploadManager;
+import io.goorm.backend.storage.ChunkedUploadSession;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 분할 업로드 명령(uploadStart/uploadChunk/uploadStatus/uploadComplete) 공통 처리
+ * 모두 AJAX 요청이므로 JSON으로 응답하고 null을 반환
+ */
+public abstract class ChunkedUploadCommand implements Command {
+  protected final ChunkedUploadManager uploadManager = ChunkedUploadManager.getInstance();
+
+  @Override
+  public String execute(HttpServletRequest request, HttpServletResponse response) {
+    try {
+      // 로그인 확인
+      HttpSession httpSession = request.getSession(false);
+      User user = httpSession != null ? (User) httpSession.getAttribute("user") : null;
+      if (user == null) {
+        return sendError(response, HttpServletResponse.SC_UNAUTHORIZED, "로그인이 필요합니다.");
+      }
+      return handle(request, response, user);
+    } catch (NumberFormatException e) {
+      return sendErrorSafely(response, HttpServletResponse.SC_BAD_REQUEST, "잘못된 숫자 형식입니다.");
+    } catch (IllegalArgumentException e) {
+      return sendErrorSafely(response, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+    } catch (IllegalStateException e) {
+      return sendErrorSafely(response, HttpServletResponse.SC_CONFLICT, e.getMessage());
+    } catch (Exception e) {
+      e.printStackTrace();
+      return sendErrorSafely(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+          "분할 업로드 처리 중 오류가 발생했습니다: " + e.getMessage());
+    }
+  }
+
+  protected abstract String handle(HttpServletRequest request, HttpServletResponse response, User user)
+      throws Exception;
+
+  /**
+   * uploadId 파라미터의 세션 조회 - 없거나 다른 사용자의 세션이면 null
+   * (분할 전송 요청은 본문이 파일 조각이므로 파라미터는 쿼리 스트링으로 받음)
+   */
+  protected ChunkedUploadSession findSession(HttpServletRequest request, User user) throws IOException {
+    ChunkedUploadSession session = uploadManager.getSession(request.getParameter("uploadId"));
+    if (session == null || !session.getUserId().equals(user.getId().toString())) {
+      return null;
+    }
+    return session;
+  }
+
+  protected String sendSessionNotFound(HttpServletResponse response) throws IOException {
+    return sendError(response, HttpServletResponse.SC_NOT_FOUND, "업로드 세션을 찾을 수 없습니다.");
+  }
+
+  // 진행 상태 (받은 조각 수와 아직 받지 못한 조각 번호)
+  protected String statusJson(ChunkedUploadSession session) {
+    return "\"uploadId\":\"" + session.getId() + "\""
+        + ",\"chunkSize\":" + session.getChunkSize()
+        + ",\"chunkCount\":" + session.getChunkCount()
+        + ",\"receivedCount\":" + session.getReceivedCount()
+        + ",\"missingChunks\":" + session.getMissingChunksJson();
+  }
+
+  // fields는 "key":value 형식으로 이어 붙인 JSON 멤버 (없으면 빈 문자열)
+  protected String sendSuccess(HttpServletResponse response, String fields) throws IOException {
+    return writeJson(response, "{\"success\":true" + (fields.isEmpty() ? "" : "," + fields) + "}");
+  }
+
+  protected String sendError(HttpServletResponse response, int status, String message) throws IOException {
+    response.setStatus(status);
+    return writeJson(response, "{\"success\":false,\"message\":\"" + escapeJson(message) + "\"}");
+  }
+
+  private String sendErrorSafely(HttpServletResponse response, int status, String message) {
+    try {
+      return sendError(response, status, message);
+    } catch (IOException ioException) {
+      // IOException 발생 시 기본 에러 페이지로 리다이렉트
+      return "/error.jsp";
+    }
+  }
+
+  private String writeJson(HttpServletResponse response, String json) throws IOException {
+    response.setContentType("application/json;charset=UTF-8");
+    response.setCharacterEncoding("UTF-8");
+
+    PrintWriter out = response.getWriter();
+    out.print(json);
+    out.flush();
+
+    return null; // AJAX 응답이므로 null 반환
+  }
+
+  // JSON 문자열에서 특수문자 이스케이프 처리
+  protected String escapeJson(String text) {
+    if (text == null)
+      return "";
+    return text.replace("\\", "\\\\")
+        .replace("\"", "\\\"")
+        .replace("\n", "\\n")
+        .replace("\r", "\\r")
+        .replace("\t", "\\t");
+  }
+}
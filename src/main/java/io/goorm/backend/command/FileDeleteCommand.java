@@ -10,6 +10,8 @@ import io.goorm.backend.FileUploadDAO;
 import io.goorm.backend.User;
 import io.goorm.backend.Board;
 import io.goorm.backend.BoardDAO;
+import io.goorm.backend.cache.HotFileCache;
+import io.goorm.backend.storage.BlobStore;
 
 public class FileDeleteCommand implements Command {
 
@@ -41,7 +43,7 @@ public class FileDeleteCommand implements Command {
       // 권한 확인 (게시글 작성자만 삭제 가능)
       User user = (User) session.getAttribute("user");
       BoardDAO boardDAO = new BoardDAO();
-      Board board = boardDAO.getBoardById(fileUpload.getBoardId());
+      Board board = boardDAO.getBoardById(fileUpload.getBoardId(), false);
 
       if (board == null) {
         return sendErrorResponse(response, "게시글을 찾을 수 없습니다.");
@@ -51,8 +53,10 @@ public class FileDeleteCommand implements Command {
         return sendErrorResponse(response, "파일을 삭제할 권한이 없습니다.");
       }
 
-      // 실제 파일 삭제 및 데이터베이스에서 제거
+      // 데이터베이스에서 제거 후 마지막 참조였으면 실제 파일 삭제
       if (fileUploadDAO.deleteFile(fileId)) {
+        HotFileCache.getInstance().invalidate(fileId);
+        BlobStore.getInstance().release(fileUpload.getFilePath());
         return sendSuccessResponse(response, "파일이 삭제되었습니다.");
       } else {
         return sendErrorResponse(response, "파일 삭제에 실패했습니다.");
@@ -2,18 +2,34 @@ package io.goorm.backend.command;
 
 import io.goorm.backend.FileUpload;
 import io.goorm.backend.FileUploadDAO;
+import io.goorm.backend.cache.HotFileCache;
 import io.goorm.backend.config.UploadConfig;
+import io.goorm.backend.util.ByteRange;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.*;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 public class FileDownloadCommand implements Command {
+  // Tomcat sendfile 요청 속성
+  private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
   private FileUploadDAO fileUploadDAO;
 
   public FileDownloadCommand() {
@@ -32,25 +48,65 @@ public class FileDownloadCommand implements Command {
 
       Long fileId = Long.parseLong(fileIdStr);
 
-      // 파일 정보 조회
-      FileUpload fileUpload = fileUploadDAO.getFileById(fileId);
-      if (fileUpload == null) {
-        request.setAttribute("error", "파일을 찾을 수 없습니다.");
-        return "board/view.jsp";
+      // 캐시에 있으면 DB 조회 없이 사용 (내용까지 보관된 파일은 디스크도 읽지 않음)
+      HotFileCache hotFileCache = HotFileCache.getInstance();
+      HotFileCache.Entry cached = hotFileCache.get(fileId);
+      if (cached != null && cached.getContent() == null && !Files.exists(cached.getPath())) {
+        // 디렉토리 이동 등으로 경로가 바뀐 경우 다시 조회
+        hotFileCache.invalidate(fileId);
+        cached = null;
       }
 
-      // 파일 경로 검증
-      Path filePath = validateAndGetFilePath(fileUpload.getFilePath());
-      if (!Files.exists(filePath)) {
-        request.setAttribute("error", "물리적 파일이 존재하지 않습니다.");
-        return "board/view.jsp";
+      if (cached == null) {
+        // 조회 도중 삭제되면 캐시에 넣지 않도록 조회 전 세대를 기록
+        long generation = hotFileCache.currentGeneration();
+
+        // 파일 정보 조회
+        FileUpload fileUpload = fileUploadDAO.getFileById(fileId);
+        if (fileUpload == null) {
+          request.setAttribute("error", "파일을 찾을 수 없습니다.");
+          return "board/view.jsp";
+        }
+
+        // 파일 경로 검증
+        Path filePath = resolveFilePath(fileUpload);
+        if (!Files.exists(filePath)) {
+          request.setAttribute("error", "물리적 파일이 존재하지 않습니다.");
+          return "board/view.jsp";
+        }
+        cached = hotFileCache.put(fileUpload, filePath, Files.size(filePath), generation);
       }
 
+      FileUpload fileUpload = cached.getFileUpload();
+      Path filePath = cached.getPath();
+      ByteBuffer content = cached.getContent();
+
       // 다운로드 헤더 설정
-      setDownloadHeaders(response, fileUpload);
+      long fileSize = cached.getSize();
+      String etag = buildETag(fileUpload, fileSize);
+      setDownloadHeaders(response, fileUpload, etag);
 
-      // 파일 스트림 전송
-      streamFile(response, filePath);
+      // Range 요청 처리 (If-Range가 현재 버전과 다르면 전체 전송)
+      List<ByteRange> ranges = null;
+      if (isIfRangeSatisfied(request, etag, fileUpload)) {
+        ranges = ByteRange.parse(request.getHeader("Range"), fileSize);
+      }
+
+      if (ranges == null) {
+        // 파일 전송 (컨테이너 sendfile 또는 버퍼 복사)
+        streamFile(request, response, filePath, content, new ByteRange(0, fileSize - 1));
+      } else if (ranges.isEmpty()) {
+        response.setHeader("Content-Range", "bytes */" + fileSize);
+        response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+      } else if (ranges.size() == 1) {
+        ByteRange range = ranges.get(0);
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setHeader("Content-Range", range.toContentRange(fileSize));
+        streamFile(request, response, filePath, content, range);
+      } else {
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        streamMultipleRanges(response, filePath, content, ranges, fileSize);
+      }
 
     } catch (Exception e) {
       e.printStackTrace();
@@ -62,6 +118,13 @@ public class FileDownloadCommand implements Command {
     return null;
   }
 
+  // 기록된 경로에 없으면 분산 디렉토리 경로에서 찾음 (디렉토리 이동 중인 파일)
+  private Path resolveFilePath(FileUpload fileUpload) {
+    Path located = UploadConfig.getInstance()
+        .locateStoredFile(fileUpload.getFilePath(), fileUpload.getStoredFilename());
+    return validateAndGetFilePath(located.toString());
+  }
+
   private Path validateAndGetFilePath(String filePath) {
     Path path = Paths.get(filePath);
 
@@ -84,29 +147,145 @@ public class FileDownloadCommand implements Command {
     return path;
   }
 
-  private void setDownloadHeaders(HttpServletResponse response, FileUpload fileUpload) {
+  private void setDownloadHeaders(HttpServletResponse response, FileUpload fileUpload, String etag) {
     response.setContentType("application/octet-stream");
-    response.setContentLengthLong(fileUpload.getFileSize());
 
     // 한글 파일명 처리
     String encodedFilename = encodeFilename(fileUpload.getOriginalFilename());
     response.setHeader("Content-Disposition", "attachment; filename=\"" + encodedFilename + "\"");
     response.setHeader("Cache-Control", "no-cache");
+    response.setHeader("Accept-Ranges", "bytes");
+    response.setHeader("ETag", etag);
+    if (fileUpload.getUploadDate() != null) {
+      response.setDateHeader("Last-Modified", fileUpload.getUploadDate().getTime());
+    }
+  }
+
+  // file_upload 행(id, 크기, 업로드 시각)으로 만든 강한 ETag
+  private String buildETag(FileUpload fileUpload, long fileSize) {
+    long uploadTime = fileUpload.getUploadDate() != null ? fileUpload.getUploadDate().getTime() : 0;
+    return "\"" + fileUpload.getId() + "-" + fileSize + "-" + uploadTime + "\"";
+  }
+
+  // If-Range가 없거나 현재 ETag/Last-Modified와 일치하면 Range를 적용
+  private boolean isIfRangeSatisfied(HttpServletRequest request, String etag, FileUpload fileUpload) {
+    String ifRange = request.getHeader("If-Range");
+    if (ifRange == null) {
+      return true;
+    }
+    ifRange = ifRange.trim();
+    if (ifRange.startsWith("\"")) {
+      return ifRange.equals(etag);
+    }
+    if (ifRange.startsWith("W/") || fileUpload.getUploadDate() == null) {
+      return false; // 약한 ETag는 Range에 사용할 수 없음
+    }
+    try {
+      long ifRangeTime = request.getDateHeader("If-Range");
+      // HTTP 날짜는 초 단위
+      return ifRangeTime / 1000 == fileUpload.getUploadDate().getTime() / 1000;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
   }
 
-  private void streamFile(HttpServletResponse response, Path filePath) throws IOException {
-    try (InputStream inputStream = Files.newInputStream(filePath);
+  // content가 있으면 (캐시된 파일) 메모리에서 바로 전송
+  private void streamFile(HttpServletRequest request, HttpServletResponse response, Path filePath,
+      ByteBuffer content, ByteRange range) throws IOException {
+    response.setContentLengthLong(range.getLength());
+
+    if (content != null) {
+      try (OutputStream outputStream = response.getOutputStream()) {
+        writeRange(content, range, Channels.newChannel(outputStream));
+        outputStream.flush();
+      }
+      return;
+    }
+
+    // Tomcat NIO/APR 커넥터는 sendfile로 커널에서 바로 전송 (JVM 힙을 거치지 않음)
+    if (range.getLength() > 0 && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+      request.setAttribute(SENDFILE_FILENAME_ATTR, filePath.toRealPath().toString());
+      request.setAttribute(SENDFILE_START_ATTR, range.getStart());
+      request.setAttribute(SENDFILE_END_ATTR, range.getEnd() + 1);
+      return;
+    }
+
+    // sendfile을 지원하지 않으면 버퍼로 복사
+    try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ);
         OutputStream outputStream = response.getOutputStream()) {
+      copyRange(fileChannel, range, outputStream, new byte[UploadConfig.getInstance().getBufferSize()]);
+      outputStream.flush();
+    }
+  }
+
+  // 여러 구간 요청은 multipart/byteranges로 전송
+  private void streamMultipleRanges(HttpServletResponse response, Path filePath, ByteBuffer content,
+      List<ByteRange> ranges, long fileSize) throws IOException {
+    String boundary = UUID.randomUUID().toString().replace("-", "");
+    response.setContentType("multipart/byteranges; boundary=" + boundary);
 
-      byte[] buffer = new byte[8192];
-      int bytesRead;
-      while ((bytesRead = inputStream.read(buffer)) != -1) {
-        outputStream.write(buffer, 0, bytesRead);
+    // 각 파트 헤더를 미리 만들어 Content-Length 계산
+    List<byte[]> partHeaders = new ArrayList<>();
+    long contentLength = 0;
+    for (ByteRange range : ranges) {
+      String header = "\r\n--" + boundary + "\r\n"
+          + "Content-Type: application/octet-stream\r\n"
+          + "Content-Range: " + range.toContentRange(fileSize) + "\r\n\r\n";
+      byte[] headerBytes = header.getBytes(StandardCharsets.US_ASCII);
+      partHeaders.add(headerBytes);
+      contentLength += headerBytes.length + range.getLength();
+    }
+    byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+    contentLength += closing.length;
+    response.setContentLengthLong(contentLength);
+
+    try (FileChannel fileChannel = content == null ? FileChannel.open(filePath, StandardOpenOption.READ) : null;
+        OutputStream outputStream = response.getOutputStream()) {
+      WritableByteChannel target = Channels.newChannel(outputStream);
+      byte[] buffer = content == null ? new byte[UploadConfig.getInstance().getBufferSize()] : null;
+      for (int i = 0; i < ranges.size(); i++) {
+        outputStream.write(partHeaders.get(i));
+        if (content != null) {
+          writeRange(content, ranges.get(i), target);
+        } else {
+          copyRange(fileChannel, ranges.get(i), outputStream, buffer);
+        }
       }
+      outputStream.write(closing);
       outputStream.flush();
     }
   }
 
+  // 캐시된 내용에서 구간만 잘라 전송
+  private void writeRange(ByteBuffer content, ByteRange range, WritableByteChannel target) throws IOException {
+    ByteBuffer slice = content.duplicate();
+    slice.limit((int) range.getEnd() + 1);
+    slice.position((int) range.getStart());
+    while (slice.hasRemaining()) {
+      target.write(slice);
+    }
+  }
+
+  // 지정한 위치부터 읽어 버퍼로 복사 (채널의 현재 위치는 사용하지 않음)
+  // 서블릿 출력은 OutputStream이라 Channels.newChannel로 감싸 transferTo를 해도
+  // JDK가 내부 힙 버퍼로 복사하므로, 커널 직접 전송은 sendfile 경로에서만 가능
+  static void copyRange(FileChannel fileChannel, ByteRange range, OutputStream outputStream, byte[] buffer)
+      throws IOException {
+    ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+    long position = range.getStart();
+    long end = range.getEnd() + 1;
+    while (position < end) {
+      wrapped.clear();
+      wrapped.limit((int) Math.min(buffer.length, end - position));
+      int read = fileChannel.read(wrapped, position);
+      if (read <= 0) {
+        throw new EOFException("파일 전송 중 파일 크기가 변경되었습니다.");
+      }
+      outputStream.write(buffer, 0, read);
+      position += read;
+    }
+  }
+
   private String encodeFilename(String filename) {
     try {
       return URLEncoder.encode(filename, StandardCharsets.UTF_8.toString())
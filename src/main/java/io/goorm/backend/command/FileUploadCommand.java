@@ -3,6 +3,9 @@ package io.goorm.backend.command;
 import io.goorm.backend.FileUpload;
 import io.goorm.backend.FileUploadDAO;
 import io.goorm.backend.config.UploadConfig;
+import io.goorm.backend.storage.BlobStore;
+import io.goorm.backend.storage.ThumbnailService;
+import io.goorm.backend.storage.UploadExecutor;
 import io.goorm.backend.util.FileUtils;
 import io.goorm.backend.util.UploadValidator;
 import javax.servlet.ServletException;
@@ -10,7 +13,9 @@ import javax.servlet.annotation.MultipartConfig;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.Part;
-import java.sql.Timestamp;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.Callable;
 
 @MultipartConfig(fileSizeThreshold = 1024 * 1024, // 1MB
     maxFileSize = 1024 * 1024 * 10, // 10MB
@@ -20,11 +25,13 @@ public class FileUploadCommand implements Command {
   private FileUploadDAO fileUploadDAO;
   private UploadConfig uploadConfig;
   private UploadValidator uploadValidator;
+  private BlobStore blobStore;
 
   public FileUploadCommand() {
     this.fileUploadDAO = new FileUploadDAO();
     this.uploadConfig = UploadConfig.getInstance();
     this.uploadValidator = new UploadValidator();
+    this.blobStore = BlobStore.getInstance();
   }
 
   @Override
@@ -39,13 +46,30 @@ public class FileUploadCommand implements Command {
 
       Long boardId = Long.parseLong(boardIdStr);
 
-      // 파일 파트들 처리
+      // 파일 파트들 처리 - 파트는 컨테이너가 이미 받아 두었으므로 파일별 저장은 작업 스레드에서 동시에 진행
+      UploadExecutor.Batch batch = UploadExecutor.getInstance().newBatch();
       for (Part part : request.getParts()) {
         if (part.getName().equals("file") && part.getSize() > 0) {
-          processFileUpload(part, boardId);
+          // 원본 파일명
+          String originalFilename = FileUtils.getSubmittedFileName(part);
+          if (originalFilename == null || originalFilename.trim().isEmpty()) {
+            continue;
+          }
+          Callable<FileUpload> task = () -> processFileUpload(part, originalFilename, boardId);
+          if (!batch.trySubmit(task)) {
+            batch.run(task);
+          }
         }
       }
 
+      // 모두 저장된 뒤 한꺼번에 기록 (하나라도 허용되지 않으면 전부 취소)
+      List<FileUpload> stored = batch.awaitAll();
+      if (!batch.getSkipped().isEmpty()) {
+        blobStore.discard(stored);
+        throw new Exception(batch.getSkipped().get(0));
+      }
+      saveFileUploads(stored);
+
       request.setAttribute("message", "파일 업로드가 완료되었습니다.");
       return "board/write.jsp";
 
@@ -56,51 +80,41 @@ public class FileUploadCommand implements Command {
     }
   }
 
-  private void processFileUpload(Part part, Long boardId) throws Exception {
-    // 원본 파일명
-    String originalFilename = FileUtils.getSubmittedFileName(part);
-    if (originalFilename == null || originalFilename.trim().isEmpty()) {
-      return;
-    }
-
+  /**
+   * 파트 하나를 저장소에 저장 (작업 스레드에서 실행) - DB 기록은 saveFileUploads에서 한꺼번에
+   */
+  private FileUpload processFileUpload(Part part, String originalFilename, Long boardId) throws Exception {
     // 파일 검증
     if (!uploadValidator.isValidFile(part, originalFilename)) {
-      throw new Exception("허용되지 않는 파일입니다: " + originalFilename);
+      throw new IllegalArgumentException("허용되지 않는 파일입니다: " + originalFilename);
     }
 
-    // 파일 타입 결정 및 저장 경로 설정
+    // 파일 타입 결정
     String fileType = uploadConfig.isImageFile(originalFilename) ? "image" : "file";
-    String uploadDir = "image".equals(fileType) ? uploadConfig.getImagesPath() : uploadConfig.getFilesPath();
-
-    // 저장할 파일명 생성
-    String storedFilename = FileUtils.generateStoredFilename(originalFilename);
+    long maxSize = "image".equals(fileType) ? uploadConfig.getMaxImageSize() : uploadConfig.getMaxFileSize();
 
-    // 업로드 디렉토리에 파일 저장
-    String filePath = uploadDir + "/" + storedFilename;
-    if (!FileUtils.saveFile(part, filePath)) {
-      throw new Exception("파일 저장에 실패했습니다.");
+    // 내용 해시 기반 저장 (같은 내용의 파일이 이미 있으면 재사용)
+    FileUpload fileUpload;
+    try (InputStream content = uploadValidator.validatingContent(originalFilename, part.getInputStream())) {
+      fileUpload = blobStore.store(originalFilename, part.getContentType(), content, maxSize);
     }
-
-    // FileUpload 객체 생성
-    FileUpload fileUpload = new FileUpload();
     fileUpload.setBoardId(boardId);
-    fileUpload.setOriginalFilename(originalFilename);
-    fileUpload.setStoredFilename(storedFilename);
-    fileUpload.setFilePath(filePath);
-    fileUpload.setFileSize(part.getSize());
-    fileUpload.setContentType(part.getContentType());
-    fileUpload.setUploadDate(new Timestamp(System.currentTimeMillis()));
-    fileUpload.setFileType(fileType);
+    fileUpload.setFileType(fileType); // 이미지 웹 URL은 저장소에서 분산 경로로 설정
+    return fileUpload;
+  }
 
-    // 웹 URL 설정 (이미지인 경우)
-    if ("image".equals(fileType)) {
-      String webUrl = uploadConfig.getWebImagesPath() + "/" + storedFilename;
-      fileUpload.setWebUrl(webUrl);
+  // 데이터베이스에 한 번에 저장 (batch insert) 후 확정, 실패 시 저장한 파일 정리
+  private void saveFileUploads(List<FileUpload> stored) throws Exception {
+    if (stored.isEmpty()) {
+      return;
     }
-
-    // 데이터베이스에 저장
-    if (!fileUploadDAO.insertFileUpload(fileUpload)) {
-      throw new Exception("데이터베이스 저장에 실패했습니다.");
+    try {
+      fileUploadDAO.insertFileUploads(stored);
+    } catch (RuntimeException e) {
+      blobStore.discard(stored);
+      throw new Exception("데이터베이스 저장에 실패했습니다.", e);
     }
+    blobStore.commit(stored);
+    ThumbnailService.getInstance().submit(stored);
   }
 }
@@ -0,0 +1,148 @@
+package io.goorm.backend.command;
+
+import io.goorm.backend.FileUpload;
+import io.goorm.backend.FileUploadDAO;
+import io.goorm.backend.config.UploadConfig;
+import io.goorm.backend.util.FileUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 게시글의 모든 첨부파일을 ZIP 하나로 내려받기
+ * 파일을 하나씩 읽어 응답으로 바로 압축해 보내므로 전체 크기와 관계없이 메모리/디스크를 추가로 쓰지 않음
+ */
+public class FileZipDownloadCommand implements Command {
+  // 이미 압축된 형식은 다시 압축하지 않고 그대로 저장 (STORED)
+  private static final Set<String> STORED_EXTENSIONS = new HashSet<>(
+      Arrays.asList(".zip", ".rar", ".jpg", ".jpeg", ".png", ".webp"));
+
+  private FileUploadDAO fileUploadDAO;
+  private UploadConfig uploadConfig;
+
+  public FileZipDownloadCommand() {
+    this.fileUploadDAO = new FileUploadDAO();
+    this.uploadConfig = UploadConfig.getInstance();
+  }
+
+  @Override
+  public String execute(HttpServletRequest request, HttpServletResponse response) {
+    try {
+      // 게시글 ID 파라미터
+      String boardIdStr = request.getParameter("boardId");
+      if (boardIdStr == null || boardIdStr.trim().isEmpty()) {
+        request.setAttribute("error", "게시글 ID가 필요합니다.");
+        return "board/view.jsp";
+      }
+
+      Long boardId = Long.parseLong(boardIdStr);
+
+      List<FileUpload> files = fileUploadDAO.getFilesByBoardId(boardId);
+      if (files.isEmpty()) {
+        request.setAttribute("error", "첨부파일이 없습니다.");
+        return "board/view.jsp";
+      }
+
+      response.setContentType("application/zip");
+      response.setHeader("Content-Disposition", "attachment; filename=\"board_" + boardId + "_attachments.zip\"");
+      response.setHeader("Cache-Control", "no-cache");
+
+      streamZip(response.getOutputStream(), files);
+
+    } catch (Exception e) {
+      e.printStackTrace();
+      if (!response.isCommitted()) {
+        request.setAttribute("error", "첨부파일 압축 다운로드 중 오류가 발생했습니다: " + e.getMessage());
+        return "board/view.jsp";
+      }
+      // 이미 전송을 시작했으면 응답을 바꿀 수 없으므로 연결만 종료
+    }
+
+    // 파일 다운로드는 직접 스트림으로 처리하므로 null 반환
+    return null;
+  }
+
+  private void streamZip(OutputStream outputStream, List<FileUpload> files) throws IOException {
+    Path uploadRoot = Paths.get(uploadConfig.getRootPath()).normalize();
+    Set<String> entryNames = new HashSet<>();
+    byte[] buffer = new byte[uploadConfig.getBufferSize()];
+
+    try (ZipOutputStream zip = new ZipOutputStream(outputStream)) {
+      zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+
+      for (FileUpload file : files) {
+        Path path = uploadConfig.locateStoredFile(file.getFilePath(), file.getStoredFilename()).normalize();
+        if (!path.startsWith(uploadRoot) || !Files.isRegularFile(path)) {
+          System.out.println("ZIP에서 제외 (파일 없음 또는 허용되지 않는 경로): " + file.getFilePath());
+          continue;
+        }
+
+        ZipEntry entry = new ZipEntry(uniqueEntryName(entryNames, file.getOriginalFilename()));
+        if (file.getUploadDate() != null) {
+          entry.setTime(file.getUploadDate().getTime());
+        }
+
+        String extension = FileUtils.getFileExtension(file.getOriginalFilename()).toLowerCase();
+        if (STORED_EXTENSIONS.contains(extension)) {
+          // STORED는 헤더에 크기와 CRC가 먼저 필요하므로 한 번 더 읽어서 계산
+          entry.setMethod(ZipEntry.STORED);
+          entry.setSize(Files.size(path));
+          entry.setCrc(crc32(path, buffer));
+        } else {
+          entry.setMethod(ZipEntry.DEFLATED);
+        }
+
+        zip.putNextEntry(entry);
+        try (InputStream in = Files.newInputStream(path)) {
+          int n;
+          while ((n = in.read(buffer)) != -1) {
+            zip.write(buffer, 0, n);
+          }
+        }
+        zip.closeEntry();
+      }
+      zip.finish();
+    }
+  }
+
+  private long crc32(Path path, byte[] buffer) throws IOException {
+    CRC32 crc = new CRC32();
+    try (InputStream in = Files.newInputStream(path)) {
+      int n;
+      while ((n = in.read(buffer)) != -1) {
+        crc.update(buffer, 0, n);
+      }
+    }
+    return crc.getValue();
+  }
+
+  // 같은 이름의 첨부파일은 "이름 (2).확장자" 형식으로 구분
+  private String uniqueEntryName(Set<String> usedNames, String originalFilename) {
+    String name = originalFilename.replace('\\', '_').replace('/', '_');
+    if (usedNames.add(name)) {
+      return name;
+    }
+    String extension = FileUtils.getFileExtension(name);
+    String baseName = name.substring(0, name.length() - extension.length());
+    for (int i = 2; ; i++) {
+      String candidate = baseName + " (" + i + ")" + extension;
+      if (usedNames.add(candidate)) {
+        return candidate;
+      }
+    }
+  }
+}
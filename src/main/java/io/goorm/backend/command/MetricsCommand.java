@@ -0,0 +1,142 @@
+package io.goorm.backend.command;
+
+import io.goorm.backend.cache.BoardListCache;
+import io.goorm.backend.cache.HotFileCache;
+import io.goorm.backend.config.ConnectionPool;
+import io.goorm.backend.config.DatabaseConfig;
+import io.goorm.backend.config.RequestConfig;
+import io.goorm.backend.metrics.LatencyHistogram;
+import io.goorm.backend.metrics.MetricsRegistry;
+import io.goorm.backend.metrics.PrometheusWriter;
+import io.goorm.backend.search.BoardSearchIndex;
+import io.goorm.backend.storage.BlobStore;
+import io.goorm.backend.storage.OrphanFileCollector;
+import io.goorm.backend.storage.ThumbnailService;
+import io.goorm.backend.storage.UploadExecutor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Map;
+
+/**
+ * 운영 지표 (Prometheus 텍스트 형식)
+ * 명령별/SQL 문별 처리 시간 백분위와 처리량, 오류 수, 커넥션 풀, 캐시, 백그라운드 작업 상태
+ */
+public class MetricsCommand implements Command {
+
+  @Override
+  public String execute(HttpServletRequest request, HttpServletResponse response) {
+    try {
+      if (RequestConfig.getInstance().isMetricsLocalOnly() && !isLocal(request)) {
+        response.sendError(HttpServletResponse.SC_FORBIDDEN);
+        return null;
+      }
+
+      PrometheusWriter writer = new PrometheusWriter();
+      writeLatencies(writer);
+      writeConnectionPool(writer);
+      writeCaches(writer);
+      writeStorage(writer);
+      writer.gauge("board_search_indexed_posts", "검색 색인에 들어 있는 게시글 수",
+          BoardSearchIndex.getInstance().getIndexedCount());
+      for (MetricsRegistry.Collector collector : MetricsRegistry.getInstance().getCollectors()) {
+        collector.collect(writer);
+      }
+
+      response.setContentType(PrometheusWriter.CONTENT_TYPE);
+      response.getWriter().write(writer.toString());
+    } catch (IOException e) {
+      // 수집기가 연결을 끊은 경우
+      System.out.println("지표 응답 실패: " + e.getMessage());
+    }
+    return null;
+  }
+
+  private void writeLatencies(PrometheusWriter writer) {
+    MetricsRegistry registry = MetricsRegistry.getInstance();
+    for (Map.Entry<String, LatencyHistogram> entry : registry.getCommands().entrySet()) {
+      writer.summary("board_command_duration_seconds", "명령 처리 시간 (최근 1~2분 백분위)",
+          "command", entry.getKey(), entry.getValue());
+    }
+    for (Map.Entry<String, LatencyHistogram> entry : registry.getCommands().entrySet()) {
+      writer.counter("board_command_errors_total", "예외가 나거나 오류 메시지를 남긴 명령 수",
+          "command", entry.getKey(), entry.getValue().getErrorCount());
+    }
+    for (Map.Entry<String, LatencyHistogram> entry : registry.getStatements().entrySet()) {
+      writer.summary("board_sql_duration_seconds", "SQL 문 실행 시간 (최근 1~2분 백분위)",
+          "statement", entry.getKey(), entry.getValue());
+    }
+    for (Map.Entry<String, LatencyHistogram> entry : registry.getStatements().entrySet()) {
+      writer.counter("board_sql_errors_total", "실패한 SQL 문 수",
+          "statement", entry.getKey(), entry.getValue().getErrorCount());
+    }
+  }
+
+  private void writeConnectionPool(PrometheusWriter writer) {
+    ConnectionPool pool = DatabaseConfig.getConnectionPool();
+    writer.gauge("board_db_pool_active", "사용 중인 커넥션 수", pool.getActiveCount())
+        .gauge("board_db_pool_idle", "유휴 커넥션 수", pool.getIdleCount())
+        .gauge("board_db_pool_waiting", "커넥션을 기다리는 요청 수", pool.getWaitingCount())
+        .gauge("board_db_pool_total", "열려 있는 커넥션 수", pool.getTotalCount())
+        .gauge("board_db_pool_max", "최대 커넥션 수", pool.getMaxSize())
+        .counter("board_db_pool_acquire_timeouts_total", "커넥션 대기 시간 초과 수", pool.getAcquireTimeoutCount())
+        .counter("board_db_pool_created_total", "생성한 커넥션 수", pool.getCreatedCount())
+        .counter("board_db_pool_evicted_total", "정리한 커넥션 수", pool.getEvictedCount());
+  }
+
+  private void writeCaches(PrometheusWriter writer) {
+    BoardListCache listCache = BoardListCache.getInstance();
+    writer.counter("board_list_cache_hits_total", "목록 캐시 적중 수", listCache.getHitCount())
+        .counter("board_list_cache_misses_total", "목록 캐시 실패 수", listCache.getMissCount())
+        .counter("board_list_cache_evictions_total", "목록 캐시 제거 수", listCache.getEvictionCount())
+        .gauge("board_list_cache_entries", "목록 캐시 항목 수", listCache.getSize());
+
+    HotFileCache fileCache = HotFileCache.getInstance();
+    writer.counter("board_file_cache_hits_total", "첨부파일 캐시 적중 수", fileCache.getHitCount())
+        .counter("board_file_cache_misses_total", "첨부파일 캐시 실패 수", fileCache.getMissCount())
+        .counter("board_file_cache_evictions_total", "첨부파일 캐시 제거 수", fileCache.getEvictionCount())
+        .gauge("board_file_cache_entries", "첨부파일 캐시 항목 수", fileCache.getSize())
+        .gauge("board_file_cache_resident_bytes", "첨부파일 캐시 메모리 사용량", fileCache.getResidentBytes());
+  }
+
+  private void writeStorage(PrometheusWriter writer) {
+    BlobStore blobStore = BlobStore.getInstance();
+    writer.counter("board_blob_dedup_hits_total", "중복 제거된 업로드 수", blobStore.getDedupHitCount())
+        .counter("board_blob_dedup_saved_bytes_total", "중복 제거로 아낀 용량", blobStore.getDedupSavedBytes())
+        .counter("board_blob_deleted_total", "참조가 없어져 삭제한 파일 수", blobStore.getDeletedBlobCount());
+
+    OrphanFileCollector collector = OrphanFileCollector.getInstance();
+    writer.counter("board_orphan_gc_runs_total", "참조 없는 파일 정리 실행 수", collector.getRunCount())
+        .counter("board_orphan_gc_files_total", "회수한 파일 수", collector.getReclaimedFileCount())
+        .counter("board_orphan_gc_bytes_total", "회수한 용량", collector.getReclaimedBytes())
+        .counter("board_orphan_gc_rows_total", "삭제한 file_upload 행 수", collector.getDeletedRowCount())
+        .gauge("board_orphan_gc_dangling_rows", "마지막 정리에서 찾은 물리 파일이 없는 행 수",
+            collector.getLastDanglingRowCount())
+        .gauge("board_orphan_gc_last_duration_seconds", "마지막 정리 소요 시간",
+            collector.getLastRunDurationMillis() / 1000.0);
+
+    ThumbnailService thumbnails = ThumbnailService.getInstance();
+    writer.gauge("board_thumbnail_queue_depth", "대기 중인 썸네일 작업 수", thumbnails.getQueueDepth())
+        .gauge("board_thumbnail_active", "실행 중인 썸네일 작업 수", thumbnails.getActiveCount())
+        .counter("board_thumbnail_submitted_total", "요청된 썸네일 작업 수", thumbnails.getSubmittedCount())
+        .counter("board_thumbnail_completed_total", "완료된 썸네일 작업 수", thumbnails.getCompletedCount())
+        .counter("board_thumbnail_failed_total", "실패한 썸네일 작업 수", thumbnails.getFailedCount())
+        .counter("board_thumbnail_rejected_total", "대기열이 가득 차 거절된 썸네일 작업 수", thumbnails.getRejectedCount());
+
+    UploadExecutor uploads = UploadExecutor.getInstance();
+    writer.gauge("board_upload_queue_depth", "대기 중인 첨부파일 처리 작업 수", uploads.getQueueDepth())
+        .gauge("board_upload_active", "실행 중인 첨부파일 처리 작업 수", uploads.getActiveCount())
+        .counter("board_upload_submitted_total", "작업 스레드로 넘긴 첨부파일 수", uploads.getSubmittedCount())
+        .counter("board_upload_caller_runs_total", "요청 스레드에서 직접 처리한 첨부파일 수", uploads.getCallerRunsCount());
+  }
+
+  private boolean isLocal(HttpServletRequest request) {
+    try {
+      return InetAddress.getByName(request.getRemoteAddr()).isLoopbackAddress();
+    } catch (IOException e) {
+      return false;
+    }
+  }
+}
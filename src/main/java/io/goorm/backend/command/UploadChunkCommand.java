@@ -0,0 +1,36 @@
+package io.goorm.backend.command;
+
+import io.goorm.backend.User;
+import io.goorm.backend.storage.ChunkedUploadSession;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.InputStream;
+
+/**
+ * 분할 업로드 조각 전송
+ * 쿼리 파라미터: uploadId, index(0부터), checksum(조각의 SHA-256 16진수)
+ * 본문: 조각 바이트 그대로 (application/octet-stream) - 컨테이너가 버퍼링하지 않고 바로 파일에 기록
+ * 같은 조각을 다시 보내면 덮어씀 (다시 보내는 동안은 받지 않은 조각으로 처리, 동시에 같은 조각을 보내면 409)
+ */
+public class UploadChunkCommand extends ChunkedUploadCommand {
+
+  @Override
+  protected String handle(HttpServletRequest request, HttpServletResponse response, User user) throws Exception {
+    ChunkedUploadSession session = findSession(request, user);
+    if (session == null) {
+      return sendSessionNotFound(response);
+    }
+
+    String indexStr = request.getParameter("index");
+    if (indexStr == null) {
+      return sendError(response, HttpServletResponse.SC_BAD_REQUEST, "조각 번호가 필요합니다.");
+    }
+    int index = Integer.parseInt(indexStr);
+
+    try (InputStream content = request.getInputStream()) {
+      uploadManager.writeChunk(session, index, content, request.getParameter("checksum"));
+    }
+    return sendSuccess(response, statusJson(session));
+  }
+}
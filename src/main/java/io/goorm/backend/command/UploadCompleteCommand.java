@@ -0,0 +1,59 @@
+package io.goorm.backend.command;
+
+import io.goorm.backend.FileUpload;
+import io.goorm.backend.FileUploadDAO;
+import io.goorm.backend.User;
+import io.goorm.backend.config.UploadConfig;
+import io.goorm.backend.storage.BlobStore;
+import io.goorm.backend.storage.ChunkedUploadSession;
+import io.goorm.backend.storage.ThumbnailService;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 분할 업로드 완료 - 모든 조각을 받았으면 저장소로 옮기고 file_upload 행 추가
+ */
+public class UploadCompleteCommand extends ChunkedUploadCommand {
+  private FileUploadDAO fileUploadDAO;
+  private UploadConfig uploadConfig;
+  private BlobStore blobStore;
+
+  public UploadCompleteCommand() {
+    this.fileUploadDAO = new FileUploadDAO();
+    this.uploadConfig = UploadConfig.getInstance();
+    this.blobStore = BlobStore.getInstance();
+  }
+
+  @Override
+  protected String handle(HttpServletRequest request, HttpServletResponse response, User user) throws Exception {
+    ChunkedUploadSession session = findSession(request, user);
+    if (session == null) {
+      return sendSessionNotFound(response);
+    }
+    if (!session.isComplete()) {
+      return sendError(response, HttpServletResponse.SC_CONFLICT, "아직 받지 못한 조각이 있습니다.");
+    }
+
+    FileUpload fileUpload = uploadManager.complete(session);
+    String fileType = uploadConfig.isImageFile(session.getOriginalFilename()) ? "image" : "file";
+    fileUpload.setBoardId(session.getBoardId());
+    fileUpload.setFileType(fileType); // 이미지 웹 URL은 저장소에서 분산 경로로 설정
+
+    // 데이터베이스에 저장
+    List<FileUpload> stored = Collections.singletonList(fileUpload);
+    boolean inserted = fileUploadDAO.insertFileUpload(fileUpload);
+    uploadManager.remove(session);
+    if (!inserted) {
+      blobStore.discard(stored);
+      return sendError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "데이터베이스 저장에 실패했습니다.");
+    }
+    blobStore.commit(stored);
+    ThumbnailService.getInstance().submit(stored);
+
+    return sendSuccess(response, "\"originalFilename\":\"" + escapeJson(fileUpload.getOriginalFilename()) + "\""
+        + ",\"fileSize\":" + fileUpload.getFileSize());
+  }
+}
@@ -0,0 +1,55 @@
+package io.goorm.backend.command;
+
+import io.goorm.backend.Board;
+import io.goorm.backend.BoardDAO;
+import io.goorm.backend.User;
+import io.goorm.backend.storage.ChunkedUploadSession;
+import io.goorm.backend.util.UploadValidator;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 분할 업로드 시작 - 파라미터: boardId, filename, fileSize, (선택) chunkSize, contentType
+ * 응답의 uploadId로 조각을 보내고, 끊긴 뒤에는 uploadStatus로 빠진 조각을 확인해 이어서 전송
+ */
+public class UploadStartCommand extends ChunkedUploadCommand {
+  private final UploadValidator uploadValidator = new UploadValidator();
+
+  @Override
+  protected String handle(HttpServletRequest request, HttpServletResponse response, User user) throws Exception {
+    String boardIdStr = request.getParameter("boardId");
+    String filename = request.getParameter("filename");
+    String fileSizeStr = request.getParameter("fileSize");
+    if (boardIdStr == null || filename == null || filename.trim().isEmpty() || fileSizeStr == null) {
+      return sendError(response, HttpServletResponse.SC_BAD_REQUEST, "boardId, filename, fileSize가 필요합니다.");
+    }
+
+    // 권한 확인 (게시글 작성자만 첨부 가능)
+    Long boardId = Long.parseLong(boardIdStr);
+    Board board = new BoardDAO().getBoardById(boardId, false);
+    if (board == null) {
+      return sendError(response, HttpServletResponse.SC_NOT_FOUND, "게시글을 찾을 수 없습니다.");
+    }
+    if (!board.getAuthor().equals(user.getId().toString())) {
+      return sendError(response, HttpServletResponse.SC_FORBIDDEN, "파일을 첨부할 권한이 없습니다.");
+    }
+
+    // 파일 검증 (크기 제한은 한 번에 올리는 업로드와 동일)
+    filename = filename.trim();
+    long fileSize = Long.parseLong(fileSizeStr);
+    String contentType = request.getParameter("contentType");
+    if (!uploadValidator.isValidFileExtension(filename)
+        || !uploadValidator.isValidFileSize(fileSize, filename)
+        || (contentType != null && !uploadValidator.isValidMimeType(contentType, filename))) {
+      return sendError(response, HttpServletResponse.SC_BAD_REQUEST, "허용되지 않는 파일입니다: " + filename);
+    }
+
+    String chunkSizeStr = request.getParameter("chunkSize");
+    int chunkSize = chunkSizeStr != null && !chunkSizeStr.trim().isEmpty() ? Integer.parseInt(chunkSizeStr) : 0;
+
+    ChunkedUploadSession session = uploadManager.start(user.getId().toString(), boardId, filename, contentType,
+        fileSize, chunkSize);
+    return sendSuccess(response, statusJson(session));
+  }
+}
@@ -0,0 +1,22 @@
+package io.goorm.backend.command;
+
+import io.goorm.backend.User;
+import io.goorm.backend.storage.ChunkedUploadSession;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 분할 업로드 진행 상태 - 이어서 올릴 때 아직 받지 못한 조각 번호를 확인
+ */
+public class UploadStatusCommand extends ChunkedUploadCommand {
+
+  @Override
+  protected String handle(HttpServletRequest request, HttpServletResponse response, User user) throws Exception {
+    ChunkedUploadSession session = findSession(request, user);
+    if (session == null) {
+      return sendSessionNotFound(response);
+    }
+    return sendSuccess(response, statusJson(session));
+  }
+}
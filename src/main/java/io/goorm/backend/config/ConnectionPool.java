@@ -0,0 +1,466 @@
+package io.goorm.backend.config;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Logger;
+
+/**
+ * 크기 제한이 있는 JDBC 커넥션 풀
+ * - 최대 maxSize 개의 물리 커넥션만 동시에 대여
+ * - 유휴 커넥션은 idleTimeout 이후 minIdle 개수까지 정리
+ * - 오래 쉬었던 커넥션은 대여 전에 isValid()로 검증
+ * - 대여된 커넥션의 close()는 물리 연결을 끊지 않고 풀로 반납
+ */
+public class ConnectionPool implements DataSource {
+
+  // 대여 대기 시간 히스토그램 구간 상한 (ms), 마지막 구간은 그 이상 전부
+  private static final long[] ACQUIRE_BUCKETS_MS = { 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000 };
+
+  private final String url;
+  private final String username;
+  private final String password;
+  private final int minIdle;
+  private final int maxSize;
+  private final long acquireTimeoutMs;
+  private final long idleTimeoutMs;
+  private final long validationIntervalMs;
+  private final int validationTimeoutSec;
+
+  // 대여 가능한 커넥션 수 (= maxSize - 대여 중인 수)
+  private final Semaphore permits;
+  // 유휴 커넥션 (가장 최근에 반납된 것이 앞쪽)
+  private final Deque<PooledConnection> idle = new ArrayDeque<>();
+  private final ScheduledExecutorService evictor;
+
+  // 통계
+  private final AtomicInteger activeCount = new AtomicInteger();
+  private final AtomicInteger waitingCount = new AtomicInteger();
+  private final AtomicInteger totalCount = new AtomicInteger();
+  private final AtomicLong acquireTimeoutCount = new AtomicLong();
+  private final AtomicLong createdCount = new AtomicLong();
+  private final AtomicLong evictedCount = new AtomicLong();
+  private final AtomicLongArray acquireHistogram = new AtomicLongArray(ACQUIRE_BUCKETS_MS.length + 1);
+
+  private volatile boolean closed;
+
+  public ConnectionPool(String driverClassName, String url, String username, String password,
+      int minIdle, int maxSize, long acquireTimeoutMs, long idleTimeoutMs,
+      long validationIntervalMs, int validationTimeoutSec) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다: " + maxSize);
+    }
+    try {
+      Class.forName(driverClassName);
+    } catch (ClassNotFoundException e) {
+      throw new RuntimeException("JDBC 드라이버를 찾을 수 없습니다: " + driverClassName, e);
+    }
+
+    this.url = url;
+    this.username = username;
+    this.password = password;
+    this.minIdle = Math.min(Math.max(minIdle, 0), maxSize);
+    this.maxSize = maxSize;
+    this.acquireTimeoutMs = acquireTimeoutMs;
+    this.idleTimeoutMs = idleTimeoutMs;
+    this.validationIntervalMs = validationIntervalMs;
+    this.validationTimeoutSec = validationTimeoutSec;
+    this.permits = new Semaphore(maxSize, true);
+
+    this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "connection-pool-evictor");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long period = Math.max(1000, idleTimeoutMs / 2);
+    evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (closed) {
+      throw new SQLException("커넥션 풀이 종료되었습니다.");
+    }
+
+    long start = System.nanoTime();
+    waitingCount.incrementAndGet();
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("커넥션 대기 중 인터럽트되었습니다.", e);
+    } finally {
+      waitingCount.decrementAndGet();
+    }
+
+    if (!acquired) {
+      acquireTimeoutCount.incrementAndGet();
+      recordAcquireTime(System.nanoTime() - start);
+      throw new SQLException("커넥션 풀 대기 시간 초과 (" + acquireTimeoutMs + "ms, 최대 " + maxSize + "개)");
+    }
+
+    try {
+      PooledConnection pooled = borrowIdle();
+      if (pooled == null) {
+        pooled = createPhysical();
+      }
+      activeCount.incrementAndGet();
+      recordAcquireTime(System.nanoTime() - start);
+      return pooled.lease();
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    throw new SQLFeatureNotSupportedException("풀 커넥션은 설정된 계정으로만 사용할 수 있습니다.");
+  }
+
+  // 유휴 커넥션 하나를 꺼내고, 오래 쉬었으면 검증
+  private PooledConnection borrowIdle() {
+    while (true) {
+      PooledConnection pooled;
+      synchronized (idle) {
+        pooled = idle.pollFirst();
+      }
+      if (pooled == null) {
+        return null;
+      }
+      long idleFor = System.currentTimeMillis() - pooled.lastReturnedAt;
+      if (idleFor < validationIntervalMs || pooled.isValid(validationTimeoutSec)) {
+        return pooled;
+      }
+      System.out.println("검증 실패한 커넥션 폐기");
+      discard(pooled);
+    }
+  }
+
+  private PooledConnection createPhysical() throws SQLException {
+    Connection physical = DriverManager.getConnection(url, username, password);
+    totalCount.incrementAndGet();
+    createdCount.incrementAndGet();
+    return new PooledConnection(physical);
+  }
+
+  // 대여된 커넥션 반납
+  private void release(PooledConnection pooled) {
+    activeCount.decrementAndGet();
+    try {
+      if (closed || !pooled.reset()) {
+        discard(pooled);
+        return;
+      }
+      pooled.lastReturnedAt = System.currentTimeMillis();
+      synchronized (idle) {
+        idle.offerFirst(pooled);
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  private void discard(PooledConnection pooled) {
+    totalCount.decrementAndGet();
+    pooled.closePhysical();
+  }
+
+  // 유휴 시간이 지난 커넥션을 minIdle 개수까지 정리하고, 부족하면 다시 채움
+  private void evictIdle() {
+    if (closed) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    synchronized (idle) {
+      // 가장 오래 쉰 커넥션이 뒤쪽에 있음
+      Iterator<PooledConnection> it = idle.descendingIterator();
+      while (it.hasNext() && idle.size() > minIdle) {
+        PooledConnection pooled = it.next();
+        if (now - pooled.lastReturnedAt < idleTimeoutMs) {
+          break;
+        }
+        it.remove();
+        evictedCount.incrementAndGet();
+        discard(pooled);
+      }
+    }
+
+    try {
+      while (getIdleCount() < minIdle && totalCount.get() < maxSize && permits.tryAcquire()) {
+        try {
+          PooledConnection pooled = createPhysical();
+          pooled.lastReturnedAt = System.currentTimeMillis();
+          synchronized (idle) {
+            idle.offerLast(pooled);
+          }
+        } finally {
+          permits.release();
+        }
+      }
+    } catch (SQLException e) {
+      System.out.println("유휴 커넥션 보충 실패: " + e.getMessage());
+    }
+  }
+
+  private void recordAcquireTime(long elapsedNanos) {
+    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    int bucket = ACQUIRE_BUCKETS_MS.length;
+    for (int i = 0; i < ACQUIRE_BUCKETS_MS.length; i++) {
+      if (elapsedMs < ACQUIRE_BUCKETS_MS[i]) {
+        bucket = i;
+        break;
+      }
+    }
+    acquireHistogram.incrementAndGet(bucket);
+  }
+
+  /**
+   * 풀 종료 - 유휴 커넥션을 닫고, 대여 중인 커넥션은 반납 시점에 닫음
+   */
+  public void close() {
+    closed = true;
+    evictor.shutdownNow();
+    synchronized (idle) {
+      for (PooledConnection pooled : idle) {
+        discard(pooled);
+      }
+      idle.clear();
+    }
+  }
+
+  // 통계 Getter 메서드들
+  public int getActiveCount() {
+    return activeCount.get();
+  }
+
+  public int getIdleCount() {
+    synchronized (idle) {
+      return idle.size();
+    }
+  }
+
+  public int getWaitingCount() {
+    return waitingCount.get();
+  }
+
+  public int getTotalCount() {
+    return totalCount.get();
+  }
+
+  public int getMinIdle() {
+    return minIdle;
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public long getAcquireTimeoutCount() {
+    return acquireTimeoutCount.get();
+  }
+
+  public long getCreatedCount() {
+    return createdCount.get();
+  }
+
+  public long getEvictedCount() {
+    return evictedCount.get();
+  }
+
+  /**
+   * 대여 대기 시간 히스토그램 구간 상한 (ms)
+   */
+  public long[] getAcquireBucketBoundsMs() {
+    return ACQUIRE_BUCKETS_MS.clone();
+  }
+
+  /**
+   * 구간별 대여 횟수 (마지막 값은 최대 상한 이상)
+   */
+  public long[] getAcquireHistogram() {
+    long[] counts = new long[acquireHistogram.length()];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = acquireHistogram.get(i);
+    }
+    return counts;
+  }
+
+  @Override
+  public String toString() {
+    return "ConnectionPool{" +
+        "active=" + getActiveCount() +
+        ", idle=" + getIdleCount() +
+        ", waiting=" + getWaitingCount() +
+        ", total=" + getTotalCount() +
+        ", max=" + maxSize +
+        ", timeouts=" + getAcquireTimeoutCount() +
+        '}';
+  }
+
+  // DataSource 나머지 메서드들
+  @Override
+  public PrintWriter getLogWriter() {
+    return null;
+  }
+
+  @Override
+  public void setLogWriter(PrintWriter out) {
+  }
+
+  @Override
+  public void setLoginTimeout(int seconds) {
+  }
+
+  @Override
+  public int getLoginTimeout() {
+    return (int) TimeUnit.MILLISECONDS.toSeconds(acquireTimeoutMs);
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    throw new SQLFeatureNotSupportedException();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (iface.isInstance(this)) {
+      return iface.cast(this);
+    }
+    throw new SQLException("지원하지 않는 타입입니다: " + iface.getName());
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) {
+    return iface.isInstance(this);
+  }
+
+  /**
+   * 물리 커넥션 하나와 그 상태
+   */
+  private class PooledConnection {
+    private final Connection physical;
+    private volatile long lastReturnedAt;
+
+    PooledConnection(Connection physical) {
+      this.physical = physical;
+      this.lastReturnedAt = System.currentTimeMillis();
+    }
+
+    // 대여할 때마다 새 프록시를 만들어, 반납 후의 재사용을 막음
+    Connection lease() {
+      return (Connection) Proxy.newProxyInstance(
+          Connection.class.getClassLoader(),
+          new Class<?>[] { Connection.class },
+          new LeaseHandler(this));
+    }
+
+    boolean isValid(int timeoutSec) {
+      try {
+        return physical.isValid(timeoutSec);
+      } catch (SQLException e) {
+        return false;
+      }
+    }
+
+    // 반납 전 상태 초기화 - 실패하면 폐기
+    boolean reset() {
+      try {
+        if (physical.isClosed()) {
+          return false;
+        }
+        if (!physical.getAutoCommit()) {
+          physical.rollback();
+          physical.setAutoCommit(true);
+        }
+        if (physical.isReadOnly()) {
+          physical.setReadOnly(false);
+        }
+        physical.clearWarnings();
+        return true;
+      } catch (SQLException e) {
+        return false;
+      }
+    }
+
+    void closePhysical() {
+      try {
+        physical.close();
+      } catch (SQLException e) {
+        System.out.println("커넥션 종료 실패: " + e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 대여된 커넥션 프록시 - close()를 가로채 풀로 반납
+   */
+  private class LeaseHandler implements InvocationHandler {
+    private final PooledConnection pooled;
+    private boolean returned;
+
+    LeaseHandler(PooledConnection pooled) {
+      this.pooled = pooled;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+      switch (name) {
+        case "close":
+          if (!returned) {
+            returned = true;
+            release(pooled);
+          }
+          return null;
+        case "isClosed":
+          return returned || pooled.physical.isClosed();
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "toString":
+          return "PooledConnection[" + pooled.physical + "]";
+        case "unwrap":
+          if (((Class<?>) args[0]).isInstance(proxy)) {
+            return proxy;
+          }
+          break;
+        case "isWrapperFor":
+          if (((Class<?>) args[0]).isInstance(proxy)) {
+            return true;
+          }
+          break;
+        default:
+          break;
+      }
+
+      if (returned) {
+        throw new SQLException("이미 풀로 반납된 커넥션입니다.");
+      }
+      try {
+        return method.invoke(pooled.physical, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+}
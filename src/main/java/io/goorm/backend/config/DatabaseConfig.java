@@ -1,16 +1,69 @@
 package io.goorm.backend.config;
 
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
 
+/**
+ * 애플리케이션 전체가 공유하는 커넥션 풀 설정
+ * database.properties가 없으면 기존 하드코딩 값으로 동작
+ */
 public class DatabaseConfig {
 
-  public static DataSource getDataSource() {
-    DriverManagerDataSource dataSource = new DriverManagerDataSource();
-    dataSource.setDriverClassName("org.h2.Driver");
-    dataSource.setUrl("jdbc:h2:file:D:/devEnv/h2/data/goorm_db;AUTO_SERVER=TRUE;IFEXISTS=TRUE");
-    dataSource.setUsername("sa");
-    dataSource.setPassword("");
+  private static ConnectionPool dataSource;
+
+  public static synchronized DataSource getDataSource() {
+    if (dataSource == null) {
+      dataSource = createPool();
+    }
     return dataSource;
   }
+
+  /**
+   * 커넥션 풀 통계 조회용
+   */
+  public static ConnectionPool getConnectionPool() {
+    return (ConnectionPool) getDataSource();
+  }
+
+  /**
+   * 애플리케이션 종료 시 풀 정리
+   */
+  public static synchronized void shutdown() {
+    if (dataSource != null) {
+      dataSource.close();
+      dataSource = null;
+    }
+  }
+
+  private static ConnectionPool createPool() {
+    Properties properties = new Properties();
+    try (InputStream input = DatabaseConfig.class.getClassLoader().getResourceAsStream("database.properties")) {
+      if (input != null) {
+        properties.load(input);
+      } else {
+        System.out.println("⚠️ database.properties 파일이 없음 - 기본 설정 사용");
+      }
+    } catch (IOException e) {
+      System.out.println("⚠️ database.properties 로드 실패 - 기본 설정 사용");
+    }
+
+    ConnectionPool pool = new ConnectionPool(
+        properties.getProperty("db.driver", "org.h2.Driver"),
+        properties.getProperty("db.url", "jdbc:h2:file:D:/devEnv/h2/data/goorm_db;AUTO_SERVER=TRUE;IFEXISTS=TRUE"),
+        properties.getProperty("db.username", "sa"),
+        properties.getProperty("db.password", ""),
+        Integer.parseInt(properties.getProperty("db.pool.min.idle", "2")),
+        Integer.parseInt(properties.getProperty("db.pool.max.size", "10")),
+        Long.parseLong(properties.getProperty("db.pool.acquire.timeout", "3000")),
+        Long.parseLong(properties.getProperty("db.pool.idle.timeout", "600000")),
+        Long.parseLong(properties.getProperty("db.pool.validation.interval", "30000")),
+        Integer.parseInt(properties.getProperty("db.pool.validation.timeout.seconds", "2")));
+
+    System.out.println("=== DatabaseConfig 커넥션 풀 생성 ===");
+    System.out.println("최소 유휴: " + pool.getMinIdle() + ", 최대: " + pool.getMaxSize());
+    System.out.println("=================================");
+    return pool;
+  }
 }
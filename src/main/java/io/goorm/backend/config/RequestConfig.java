@@ -0,0 +1,155 @@
+package io.goorm.backend.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * 요청 처리 설정 (비동기 실행기, 명령별 제한 시간, 입장 제어, 지표 조회)
+ * request.properties가 없으면 기본값으로 동작
+ */
+public class RequestConfig {
+  private static RequestConfig instance;
+  private final Properties properties = new Properties();
+
+  // 비동기 처리
+  private final boolean asyncEnabled;
+  private final String asyncExecutor;
+  private final int asyncWorkers;
+  private final int asyncQueueSize;
+
+  // 기본 처리 제한 시간 (밀리초)
+  private final long defaultTimeoutMillis;
+
+  // 입장 제어 (전체 한도와 우선순위별 비율, 명령별 한도, 대기열, 목표 처리 시간)
+  private final boolean admissionEnabled;
+  private final int admissionGlobalLimit;
+  private final double admissionReadShare;
+  private final double admissionSearchShare;
+  private final int admissionInitialLimit;
+  private final int admissionMinLimit;
+  private final int admissionMaxLimit;
+  private final int admissionQueueSize;
+  private final long admissionQueueTimeoutMillis;
+  private final long admissionDefaultTargetMillis;
+  private final int admissionRetryAfterSeconds;
+
+  // 지표 조회를 같은 서버(루프백)에서만 허용
+  private final boolean metricsLocalOnly;
+
+  private RequestConfig() {
+    try (InputStream input = getClass().getClassLoader().getResourceAsStream("request.properties")) {
+      if (input != null) {
+        properties.load(input);
+      } else {
+        System.out.println("⚠️ request.properties 파일이 없음 - 기본 설정 사용");
+      }
+    } catch (IOException e) {
+      System.out.println("⚠️ request.properties 로드 실패 - 기본 설정 사용");
+    }
+
+    asyncEnabled = Boolean.parseBoolean(properties.getProperty("request.async.enabled", "true"));
+    asyncExecutor = properties.getProperty("request.async.executor", "auto").trim();
+    asyncWorkers = Integer.parseInt(properties.getProperty("request.async.workers", "64"));
+    asyncQueueSize = Integer.parseInt(properties.getProperty("request.async.queue.size", "256"));
+    defaultTimeoutMillis = Long.parseLong(properties.getProperty("request.timeout.default", "30000"));
+
+    admissionEnabled = Boolean.parseBoolean(properties.getProperty("request.admission.enabled", "true"));
+    admissionGlobalLimit = Integer.parseInt(properties.getProperty("request.admission.global.limit", "64"));
+    admissionReadShare = Double.parseDouble(properties.getProperty("request.admission.share.read", "0.8"));
+    admissionSearchShare = Double.parseDouble(properties.getProperty("request.admission.share.search", "0.5"));
+    admissionInitialLimit = Integer.parseInt(properties.getProperty("request.admission.limit.initial", "16"));
+    admissionMinLimit = Integer.parseInt(properties.getProperty("request.admission.limit.min", "2"));
+    admissionMaxLimit = Integer.parseInt(properties.getProperty("request.admission.limit.max", "64"));
+    admissionQueueSize = Integer.parseInt(properties.getProperty("request.admission.queue.size", "32"));
+    admissionQueueTimeoutMillis = Long.parseLong(properties.getProperty("request.admission.queue.timeout", "2000"));
+    admissionDefaultTargetMillis = Long.parseLong(properties.getProperty("request.admission.target.default", "500"));
+    admissionRetryAfterSeconds = Integer.parseInt(properties.getProperty("request.admission.retry.after", "1"));
+
+    metricsLocalOnly = Boolean.parseBoolean(properties.getProperty("request.metrics.local.only", "true"));
+  }
+
+  public static synchronized RequestConfig getInstance() {
+    if (instance == null) {
+      instance = new RequestConfig();
+    }
+    return instance;
+  }
+
+  public boolean isAsyncEnabled() {
+    return asyncEnabled;
+  }
+
+  public String getAsyncExecutor() {
+    return asyncExecutor;
+  }
+
+  public int getAsyncWorkers() {
+    return asyncWorkers;
+  }
+
+  public int getAsyncQueueSize() {
+    return asyncQueueSize;
+  }
+
+  // 명령별 처리 제한 시간 (request.timeout.<명령>, 없으면 기본값, 0이면 제한 없음)
+  public long getTimeoutMillis(String command) {
+    String value = properties.getProperty("request.timeout." + command);
+    return value != null ? Long.parseLong(value.trim()) : defaultTimeoutMillis;
+  }
+
+  public boolean isAdmissionEnabled() {
+    return admissionEnabled;
+  }
+
+  public int getAdmissionGlobalLimit() {
+    return admissionGlobalLimit;
+  }
+
+  public double getAdmissionReadShare() {
+    return admissionReadShare;
+  }
+
+  public double getAdmissionSearchShare() {
+    return admissionSearchShare;
+  }
+
+  public int getAdmissionInitialLimit() {
+    return admissionInitialLimit;
+  }
+
+  public int getAdmissionMinLimit() {
+    return admissionMinLimit;
+  }
+
+  public int getAdmissionMaxLimit() {
+    return admissionMaxLimit;
+  }
+
+  public int getAdmissionQueueSize() {
+    return admissionQueueSize;
+  }
+
+  public long getAdmissionQueueTimeoutMillis() {
+    return admissionQueueTimeoutMillis;
+  }
+
+  public int getAdmissionRetryAfterSeconds() {
+    return admissionRetryAfterSeconds;
+  }
+
+  // 명령별 목표 처리 시간 (request.admission.target.<명령>, 없으면 기본값, 0이면 처리 시간으로 한도를 줄이지 않음)
+  public long getAdmissionTargetMillis(String command) {
+    String value = properties.getProperty("request.admission.target." + command);
+    return value != null ? Long.parseLong(value.trim()) : admissionDefaultTargetMillis;
+  }
+
+  public boolean isMetricsLocalOnly() {
+    return metricsLocalOnly;
+  }
+
+  // 명령별 우선순위 (write, read, search) - 없으면 null
+  public String getAdmissionPriority(String command) {
+    return properties.getProperty("request.admission.priority." + command);
+  }
+}
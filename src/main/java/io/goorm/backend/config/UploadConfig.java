@@ -6,7 +6,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 public class UploadConfig {
@@ -23,11 +25,47 @@ public class UploadConfig {
   private List<String> allowedFileExtensions;
   private List<String> allowedImageExtensions;
 
+  // 확장자별 파일 시그니처 (16진수, ??는 아무 바이트, 쉼표로 여러 개, text는 텍스트 판별)
+  private Map<String, String> contentSignatures;
+
   // 파일 크기 제한
   private long maxFileSize;
   private long maxImageSize;
   private int bufferSize;
 
+  // 디렉토리 분산 (파일명 앞부분으로 만든 하위 폴더 단계 수와 폴더명 길이, 0단계면 평면 구조)
+  private int shardDepth;
+  private int shardWidth;
+  private boolean shardMigrateOnStartup;
+
+  // 참조 없는 파일 정리 (실행 주기, 최근 파일 유예 기간, 배치 크기, 초당 최대 삭제 수)
+  private long gcIntervalMinutes;
+  private long gcGraceMinutes;
+  private int gcBatchSize;
+  private int gcMaxDeletesPerSecond;
+  private boolean gcDanglingRowsDelete;
+  private int gcDanglingRowsMaxPerRun;
+  private double gcDanglingRowsMaxMissingRatio;
+
+  // 썸네일 생성 (작업 스레드 수, 대기열 크기, 긴 변 최대 픽셀)
+  private int thumbnailWorkers;
+  private int thumbnailQueueSize;
+  private int thumbnailSize;
+
+  // 다운로드 캐시 (전체 최대 바이트, 내용까지 보관할 파일의 최대 크기)
+  private long hotCacheMaxBytes;
+  private long hotCacheContentMaxSize;
+
+  // 분할 업로드 (기본/최대 조각 크기, 세션 만료 시간)
+  private int chunkedDefaultChunkSize;
+  private int chunkedMaxChunkSize;
+  private long chunkedExpiryHours;
+
+  // 첨부파일 병렬 처리 (작업 스레드 수, 대기열 크기, 요청 하나당 동시 처리 파일 수)
+  private int parallelWorkers;
+  private int parallelQueueSize;
+  private int parallelPerRequest;
+
   private UploadConfig() {
     loadProperties();
     createDirectories();
@@ -70,11 +108,48 @@ public class UploadConfig {
       allowedFileExtensions = Arrays.asList(fileExts.split(","));
       allowedImageExtensions = Arrays.asList(imageExts.split(","));
 
+      // 파일 시그니처 설정 (없는 확장자는 기본값 사용)
+      contentSignatures = loadContentSignatures();
+
       // 크기 제한 설정
       maxFileSize = Long.parseLong(properties.getProperty("upload.max.file.size"));
       maxImageSize = Long.parseLong(properties.getProperty("upload.max.image.size"));
       bufferSize = Integer.parseInt(properties.getProperty("upload.buffer.size"));
 
+      // 디렉토리 분산 설정
+      shardDepth = Integer.parseInt(properties.getProperty("upload.shard.depth", "2"));
+      shardWidth = Integer.parseInt(properties.getProperty("upload.shard.width", "2"));
+      shardMigrateOnStartup = Boolean.parseBoolean(properties.getProperty("upload.shard.migrate.on.startup", "true"));
+
+      // 참조 없는 파일 정리 설정
+      gcIntervalMinutes = Long.parseLong(properties.getProperty("upload.gc.interval.minutes", "60"));
+      gcGraceMinutes = Long.parseLong(properties.getProperty("upload.gc.grace.minutes", "60"));
+      gcBatchSize = Integer.parseInt(properties.getProperty("upload.gc.batch.size", "500"));
+      gcMaxDeletesPerSecond = Integer.parseInt(properties.getProperty("upload.gc.max.deletes.per.second", "20"));
+      gcDanglingRowsDelete = Boolean.parseBoolean(properties.getProperty("upload.gc.dangling.rows.delete", "false"));
+      gcDanglingRowsMaxPerRun = Integer.parseInt(properties.getProperty("upload.gc.dangling.rows.max.per.run", "100"));
+      gcDanglingRowsMaxMissingRatio = Double.parseDouble(
+          properties.getProperty("upload.gc.dangling.rows.max.missing.ratio", "0.5"));
+
+      // 썸네일 설정
+      thumbnailWorkers = Integer.parseInt(properties.getProperty("upload.thumbnail.workers", "2"));
+      thumbnailQueueSize = Integer.parseInt(properties.getProperty("upload.thumbnail.queue.size", "100"));
+      thumbnailSize = Integer.parseInt(properties.getProperty("upload.thumbnail.size", "320"));
+
+      // 다운로드 캐시 설정
+      hotCacheMaxBytes = Long.parseLong(properties.getProperty("upload.hotcache.max.bytes", "67108864"));
+      hotCacheContentMaxSize = Long.parseLong(properties.getProperty("upload.hotcache.content.max.size", "1048576"));
+
+      // 분할 업로드 설정
+      chunkedDefaultChunkSize = Integer.parseInt(properties.getProperty("upload.chunked.default.chunk.size", "1048576"));
+      chunkedMaxChunkSize = Integer.parseInt(properties.getProperty("upload.chunked.max.chunk.size", "8388608"));
+      chunkedExpiryHours = Long.parseLong(properties.getProperty("upload.chunked.expiry.hours", "24"));
+
+      // 첨부파일 병렬 처리 설정
+      parallelWorkers = Integer.parseInt(properties.getProperty("upload.parallel.workers", "8"));
+      parallelQueueSize = Integer.parseInt(properties.getProperty("upload.parallel.queue.size", "32"));
+      parallelPerRequest = Integer.parseInt(properties.getProperty("upload.parallel.per.request", "4"));
+
     } catch (IOException e) {
       System.out.println("⚠️ Properties 파일 로드 실패 - 하드코딩된 경로 사용");
       // Properties 파일 로드 실패 시 하드코딩된 경로 사용
@@ -86,11 +161,33 @@ public class UploadConfig {
       // 기본 확장자 설정
       allowedFileExtensions = Arrays.asList(".pdf", ".doc", ".docx", ".xls", ".xlsx", ".zip", ".rar", ".txt", ".csv");
       allowedImageExtensions = Arrays.asList(".jpg", ".jpeg", ".png", ".gif", ".webp", ".bmp");
+      contentSignatures = defaultContentSignatures();
 
       // 기본 크기 제한
       maxFileSize = 10485760; // 10MB
       maxImageSize = 5242880; // 5MB
       bufferSize = 8192;
+      shardDepth = 2;
+      shardWidth = 2;
+      shardMigrateOnStartup = true;
+      gcIntervalMinutes = 60;
+      gcGraceMinutes = 60;
+      gcBatchSize = 500;
+      gcMaxDeletesPerSecond = 20;
+      gcDanglingRowsDelete = false;
+      gcDanglingRowsMaxPerRun = 100;
+      gcDanglingRowsMaxMissingRatio = 0.5;
+      thumbnailWorkers = 2;
+      thumbnailQueueSize = 100;
+      thumbnailSize = 320;
+      hotCacheMaxBytes = 67108864; // 64MB
+      hotCacheContentMaxSize = 1048576; // 1MB
+      chunkedDefaultChunkSize = 1048576; // 1MB
+      chunkedMaxChunkSize = 8388608; // 8MB
+      chunkedExpiryHours = 24;
+      parallelWorkers = 8;
+      parallelQueueSize = 32;
+      parallelPerRequest = 4;
 
       System.out.println("=== UploadConfig 하드코딩 경로 사용 ===");
       System.out.println("루트 경로: " + rootPath);
@@ -100,6 +197,42 @@ public class UploadConfig {
     }
   }
 
+  private Map<String, String> loadContentSignatures() {
+    Map<String, String> defaults = defaultContentSignatures();
+    Map<String, String> signatures = new LinkedHashMap<>();
+    for (List<String> extensions : Arrays.asList(allowedFileExtensions, allowedImageExtensions)) {
+      for (String extension : extensions) {
+        String signature = properties.getProperty("upload.signature" + extension, defaults.get(extension));
+        if (signature == null) {
+          System.out.println("⚠️ 파일 시그니처가 없는 확장자 (내용 검사 생략): " + extension);
+          continue;
+        }
+        signatures.put(extension, signature);
+      }
+    }
+    return signatures;
+  }
+
+  private static Map<String, String> defaultContentSignatures() {
+    Map<String, String> signatures = new LinkedHashMap<>();
+    signatures.put(".pdf", "25504446");
+    signatures.put(".doc", "D0CF11E0A1B11AE1");
+    signatures.put(".xls", "D0CF11E0A1B11AE1");
+    signatures.put(".docx", "504B0304");
+    signatures.put(".xlsx", "504B0304");
+    signatures.put(".zip", "504B0304,504B0506,504B0708");
+    signatures.put(".rar", "526172211A07");
+    signatures.put(".txt", "text");
+    signatures.put(".csv", "text");
+    signatures.put(".jpg", "FFD8FF");
+    signatures.put(".jpeg", "FFD8FF");
+    signatures.put(".png", "89504E470D0A1A0A");
+    signatures.put(".gif", "474946383761,474946383961");
+    signatures.put(".webp", "52494646????????57454250");
+    signatures.put(".bmp", "424D");
+    return signatures;
+  }
+
   private void createDirectories() {
     try {
       Files.createDirectories(Paths.get(rootPath));
@@ -135,6 +268,10 @@ public class UploadConfig {
     return allowedImageExtensions;
   }
 
+  public Map<String, String> getContentSignatures() {
+    return contentSignatures;
+  }
+
   public long getMaxFileSize() {
     return maxFileSize;
   }
@@ -147,6 +284,149 @@ public class UploadConfig {
     return bufferSize;
   }
 
+  public int getShardDepth() {
+    return shardDepth;
+  }
+
+  public int getShardWidth() {
+    return shardWidth;
+  }
+
+  public boolean isShardMigrateOnStartup() {
+    return shardMigrateOnStartup;
+  }
+
+  public long getGcIntervalMinutes() {
+    return gcIntervalMinutes;
+  }
+
+  public long getGcGraceMinutes() {
+    return gcGraceMinutes;
+  }
+
+  public int getGcBatchSize() {
+    return gcBatchSize;
+  }
+
+  public int getGcMaxDeletesPerSecond() {
+    return gcMaxDeletesPerSecond;
+  }
+
+  // 물리 파일이 없는 file_upload 행을 삭제할지 (false면 로그와 지표로만 보고)
+  public boolean isGcDanglingRowsDelete() {
+    return gcDanglingRowsDelete;
+  }
+
+  public int getGcDanglingRowsMaxPerRun() {
+    return gcDanglingRowsMaxPerRun;
+  }
+
+  public double getGcDanglingRowsMaxMissingRatio() {
+    return gcDanglingRowsMaxMissingRatio;
+  }
+
+  public int getThumbnailWorkers() {
+    return thumbnailWorkers;
+  }
+
+  public int getThumbnailQueueSize() {
+    return thumbnailQueueSize;
+  }
+
+  public int getThumbnailSize() {
+    return thumbnailSize;
+  }
+
+  public long getHotCacheMaxBytes() {
+    return hotCacheMaxBytes;
+  }
+
+  public long getHotCacheContentMaxSize() {
+    return hotCacheContentMaxSize;
+  }
+
+  public int getChunkedDefaultChunkSize() {
+    return chunkedDefaultChunkSize;
+  }
+
+  public int getChunkedMaxChunkSize() {
+    return chunkedMaxChunkSize;
+  }
+
+  public long getChunkedExpiryHours() {
+    return chunkedExpiryHours;
+  }
+
+  public int getParallelWorkers() {
+    return parallelWorkers;
+  }
+
+  public int getParallelQueueSize() {
+    return parallelQueueSize;
+  }
+
+  public int getParallelPerRequest() {
+    return parallelPerRequest;
+  }
+
+  // 분할 업로드 세션 폴더 (업로드 루트 아래)
+  public String getChunkedPath() {
+    return Paths.get(rootPath, "chunked").toString();
+  }
+
+  // 썸네일 저장 폴더 (이미지 폴더 아래)
+  public String getThumbnailsPath() {
+    return Paths.get(imagesPath, "thumbs").toString();
+  }
+
+  // 썸네일 웹 URL (분산 폴더 포함)
+  public String getThumbnailWebUrl(String thumbnailFilename) {
+    return webImagesPath + "/thumbs/" + getShardedRelativePath(thumbnailFilename);
+  }
+
+  /**
+   * 저장 파일명으로 분산 폴더를 포함한 상대 경로 생성
+   * 예) depth=2, width=2: "ab12cd....pdf" -> "ab/12/ab12cd....pdf"
+   */
+  public String getShardedRelativePath(String storedFilename) {
+    String key = storedFilename.toLowerCase().replaceAll("[^0-9a-z]", "");
+    StringBuilder path = new StringBuilder();
+    for (int level = 0; level < shardDepth; level++) {
+      int start = level * shardWidth;
+      if (key.length() < start + shardWidth) {
+        break;
+      }
+      path.append(key, start, start + shardWidth).append('/');
+    }
+    return path.append(storedFilename).toString();
+  }
+
+  /**
+   * 업로드 폴더(파일/이미지) 아래 분산 폴더를 포함한 실제 저장 경로
+   */
+  public Path resolveStoragePath(String baseDir, String storedFilename) {
+    return Paths.get(baseDir, getShardedRelativePath(storedFilename));
+  }
+
+  /**
+   * 기록된 경로에 파일이 없으면 현재 분산 구조의 경로를 반환 (디렉토리 이동 중인 파일)
+   * 두 곳 모두 없으면 기록된 경로 그대로 반환
+   */
+  public Path locateStoredFile(String filePath, String storedFilename) {
+    Path recorded = Paths.get(filePath);
+    if (Files.exists(recorded)) {
+      return recorded;
+    }
+    String baseDir = recorded.normalize().startsWith(Paths.get(imagesPath).normalize()) ? imagesPath : filesPath;
+    Path sharded = resolveStoragePath(baseDir, storedFilename);
+    return Files.exists(sharded) ? sharded : recorded;
+  }
+
+  // 이미지 웹 URL (분산 폴더 포함)
+  public String getImageWebUrl(String storedFilename) {
+    return webImagesPath + "/" + getShardedRelativePath(storedFilename);
+  }
+
   // 파일 타입 판별
   public boolean isImageFile(String filename) {
     String extension = getFileExtension(filename).toLowerCase();
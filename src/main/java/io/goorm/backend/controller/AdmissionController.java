@@ -0,0 +1,347 @@
+package io.goorm.backend.controller;
+
+import io.goorm.backend.config.RequestConfig;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 명령 실행 전 동시 처리 수를 제한하는 입장 제어 (load shedding)
+ *
+ * - 명령별 동시 처리 한도는 처리 시간에 따라 AIMD로 조정
+ *   (목표 시간 안에 끝나면 조금씩 늘리고, 넘기면 비율로 줄임)
+ * - 전체 동시 처리 수도 제한하며, 우선순위가 낮은 요청은 전체 한도의 일부만 사용
+ *   (쓰기 > 읽기 > 검색 순으로 여유를 남겨 검색이 몰려도 글쓰기/업로드는 처리됨)
+ * - 한도를 넘으면 명령별 대기열에서 잠시 기다리고, 대기열이 가득 차거나 대기 시간을 넘기면
+ *   바로 거절해 호출 측이 503 + Retry-After로 응답
+ * 대기 중인 요청은 스레드를 점유하지 않고, 처리 중인 요청이 끝날 때 우선순위 순으로 입장
+ */
+public class AdmissionController {
+
+  public enum Priority {
+    WRITE, READ, SEARCH
+  }
+
+  // 기본 쓰기 명령 (request.admission.priority.<명령>으로 바꿀 수 있음)
+  private static final Set<String> WRITE_COMMANDS = new HashSet<>(Arrays.asList(
+      "boardInsert", "boardUpdate", "boardDelete", "fileUpload", "fileDelete", "signup", "login", "logout",
+      "uploadStart", "uploadChunk", "uploadComplete"));
+
+  // 목표 시간을 넘겼을 때 한도를 줄이는 비율
+  private static final double DECREASE_RATIO = 0.9;
+  private static final long SWEEP_INTERVAL_MILLIS = 100;
+
+  private final RequestConfig config;
+  private final Map<String, Limiter> limiters = new LinkedHashMap<>();
+  private final ScheduledExecutorService sweeper;
+  private int globalInFlight;
+
+  // 지표
+  private final AtomicLong admittedCount = new AtomicLong();
+  private final AtomicLong queuedCount = new AtomicLong();
+  private final AtomicLong rejectedCount = new AtomicLong();
+
+  public AdmissionController(RequestConfig config) {
+    this.config = config;
+    this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "admission-sweeper");
+      thread.setDaemon(true);
+      return thread;
+    });
+    sweeper.scheduleWithFixedDelay(this::expireWaiting, SWEEP_INTERVAL_MILLIS, SWEEP_INTERVAL_MILLIS,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 명령의 우선순위 - 설정이 없으면 쓰기 명령은 WRITE, 검색어가 있는 목록은 SEARCH, 나머지는 READ
+   */
+  public Priority classify(String command, HttpServletRequest request) {
+    String configured = config.getAdmissionPriority(command);
+    if (configured != null) {
+      return Priority.valueOf(configured.trim().toUpperCase());
+    }
+    if (WRITE_COMMANDS.contains(command)) {
+      return Priority.WRITE;
+    }
+    if ("boardList".equals(command)) {
+      String keyword = request.getParameter("searchKeyword");
+      if (keyword != null && !keyword.trim().isEmpty()) {
+        return Priority.SEARCH;
+      }
+    }
+    return Priority.READ;
+  }
+
+  /**
+   * 바로 입장 가능하면 Ticket, 아니면 null
+   */
+  public synchronized Ticket tryAdmit(String command, Priority priority) {
+    Limiter limiter = limiterFor(command);
+    // 먼저 기다리던 요청이 있으면 새 요청이 앞지르지 않도록 대기열로
+    if (!limiter.waiting.isEmpty() || !hasCapacity(limiter, priority)) {
+      return null;
+    }
+    return admit(limiter, priority);
+  }
+
+  /**
+   * 대기열에 등록 - 입장하면 onAdmit, 대기 시간을 넘기면 onReject를 호출 (처리 중인 요청이 끝나는 스레드에서)
+   * 대기열이 가득 차면 false (콜백은 호출하지 않음)
+   * 우선순위가 낮을수록 사용할 수 있는 대기열이 작음 (검색은 1/4)
+   */
+  public boolean enqueue(String command, Priority priority, Consumer<Ticket> onAdmit, Runnable onReject) {
+    Ticket ticket;
+    synchronized (this) {
+      Limiter limiter = limiterFor(command);
+      if (limiter.waiting.isEmpty() && hasCapacity(limiter, priority)) {
+        ticket = admit(limiter, priority); // 그 사이 자리가 남
+      } else {
+        if (limiter.waiting.size() >= queueBound(priority)) {
+          rejectedCount.incrementAndGet();
+          return false;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getAdmissionQueueTimeoutMillis());
+        limiter.waiting.add(new Waiting(priority, deadline, onAdmit, onReject));
+        queuedCount.incrementAndGet();
+        return true;
+      }
+    }
+    onAdmit.accept(ticket);
+    return true;
+  }
+
+  /**
+   * 동기 처리용 - 대기열에서 최대 대기 시간만큼 기다려 입장, 실패하면 null
+   */
+  public Ticket admitBlocking(String command, Priority priority) throws InterruptedException {
+    Ticket ticket = tryAdmit(command, priority);
+    if (ticket != null) {
+      return ticket;
+    }
+    CountDownLatch latch = new CountDownLatch(1);
+    Ticket[] admitted = new Ticket[1];
+    boolean queued = enqueue(command, priority, t -> {
+      admitted[0] = t;
+      latch.countDown();
+    }, latch::countDown);
+    if (!queued) {
+      return null;
+    }
+    latch.await();
+    return admitted[0];
+  }
+
+  // Retry-After 헤더 값 (초)
+  public int getRetryAfterSeconds() {
+    return config.getAdmissionRetryAfterSeconds();
+  }
+
+  public void shutdown() {
+    sweeper.shutdownNow();
+  }
+
+  private Ticket admit(Limiter limiter, Priority priority) {
+    limiter.inFlight++;
+    globalInFlight++;
+    admittedCount.incrementAndGet();
+    return new Ticket(limiter, System.nanoTime());
+  }
+
+  // 명령별 한도와 우선순위별 전체 한도를 모두 만족하는지
+  private boolean hasCapacity(Limiter limiter, Priority priority) {
+    return limiter.inFlight < (int) limiter.limit && globalInFlight < globalLimit(priority);
+  }
+
+  private int globalLimit(Priority priority) {
+    int limit = config.getAdmissionGlobalLimit();
+    switch (priority) {
+      case SEARCH:
+        return Math.max(1, (int) (limit * config.getAdmissionSearchShare()));
+      case READ:
+        return Math.max(1, (int) (limit * config.getAdmissionReadShare()));
+      default:
+        return limit;
+    }
+  }
+
+  private int queueBound(Priority priority) {
+    int size = config.getAdmissionQueueSize();
+    switch (priority) {
+      case SEARCH:
+        return size / 4;
+      case READ:
+        return size / 2;
+      default:
+        return size;
+    }
+  }
+
+  private Limiter limiterFor(String command) {
+    return limiters.computeIfAbsent(command, name -> new Limiter(name,
+        config.getAdmissionInitialLimit(), config.getAdmissionTargetMillis(name)));
+  }
+
+  // 처리 종료 - 한도 조정 후 기다리던 요청을 우선순위 순으로 입장
+  private void release(Ticket ticket, boolean succeeded) {
+    List<Runnable> callbacks = new ArrayList<>();
+    synchronized (this) {
+      Limiter limiter = ticket.limiter;
+      limiter.inFlight--;
+      globalInFlight--;
+      limiter.adjust(System.nanoTime() - ticket.startedAt, succeeded);
+      admitWaiting(callbacks);
+    }
+    callbacks.forEach(Runnable::run);
+  }
+
+  private void admitWaiting(List<Runnable> callbacks) {
+    long now = System.nanoTime();
+    for (Priority priority : Priority.values()) {
+      for (Limiter limiter : limiters.values()) {
+        Iterator<Waiting> iterator = limiter.waiting.iterator();
+        while (iterator.hasNext()) {
+          Waiting waiting = iterator.next();
+          if (waiting.deadline - now < 0) {
+            iterator.remove();
+            rejectedCount.incrementAndGet();
+            callbacks.add(waiting.onReject);
+            continue;
+          }
+          if (waiting.priority != priority) {
+            continue;
+          }
+          if (!hasCapacity(limiter, priority)) {
+            break;
+          }
+          iterator.remove();
+          Ticket ticket = admit(limiter, priority);
+          callbacks.add(() -> waiting.onAdmit.accept(ticket));
+        }
+      }
+    }
+  }
+
+  // 대기 시간을 넘긴 요청 거절 (처리 중인 요청이 오래 끝나지 않는 경우 대비)
+  private void expireWaiting() {
+    List<Runnable> callbacks = new ArrayList<>();
+    synchronized (this) {
+      admitWaiting(callbacks);
+    }
+    for (Runnable callback : callbacks) {
+      try {
+        callback.run();
+      } catch (RuntimeException e) {
+        System.out.println("대기 요청 처리 실패: " + e.getMessage());
+      }
+    }
+  }
+
+  public synchronized int getGlobalInFlight() {
+    return globalInFlight;
+  }
+
+  // 명령별 현재 한도, 처리 중, 대기 수
+  public synchronized Map<String, int[]> getLimiterStats() {
+    Map<String, int[]> stats = new LinkedHashMap<>();
+    for (Limiter limiter : limiters.values()) {
+      stats.put(limiter.command, new int[] { (int) limiter.limit, limiter.inFlight, limiter.waiting.size() });
+    }
+    return stats;
+  }
+
+  public long getAdmittedCount() {
+    return admittedCount.get();
+  }
+
+  public long getQueuedCount() {
+    return queuedCount.get();
+  }
+
+  public long getRejectedCount() {
+    return rejectedCount.get();
+  }
+
+  /**
+   * 입장권 - 명령 실행이 끝나면 한 번만 release
+   */
+  public class Ticket {
+    private final Limiter limiter;
+    private final long startedAt;
+    private boolean released;
+
+    private Ticket(Limiter limiter, long startedAt) {
+      this.limiter = limiter;
+      this.startedAt = startedAt;
+    }
+
+    // succeeded가 false면 (예외, 시간 초과) 처리 시간과 관계없이 한도를 줄임
+    public void release(boolean succeeded) {
+      synchronized (this) {
+        if (released) {
+          return;
+        }
+        released = true;
+      }
+      AdmissionController.this.release(this, succeeded);
+    }
+  }
+
+  // 명령 하나의 AIMD 한도와 대기열
+  private class Limiter {
+    private final String command;
+    private final long targetNanos; // 0이면 처리 시간으로 한도를 줄이지 않음 (다운로드 등)
+    private final ArrayDeque<Waiting> waiting = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseAt;
+
+    Limiter(String command, int initialLimit, long targetMillis) {
+      this.command = command;
+      this.limit = initialLimit;
+      this.targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+    }
+
+    void adjust(long latencyNanos, boolean succeeded) {
+      long now = System.nanoTime();
+      boolean slow = !succeeded || (targetNanos > 0 && latencyNanos > targetNanos);
+      if (slow) {
+        // 동시에 끝난 느린 요청들 때문에 한꺼번에 줄지 않도록 목표 시간에 한 번만 감소
+        if (now - lastDecreaseAt > Math.max(targetNanos, TimeUnit.MILLISECONDS.toNanos(100))) {
+          limit = Math.max(config.getAdmissionMinLimit(), limit * DECREASE_RATIO);
+          lastDecreaseAt = now;
+        }
+      } else if (inFlight + 1 >= (int) limit || !waiting.isEmpty()) {
+        // 한도를 다 쓰고 있을 때만 증가 (한도 하나당 1/limit씩 -> 왕복마다 약 1)
+        limit = Math.min(config.getAdmissionMaxLimit(), limit + 1.0 / limit);
+      }
+    }
+  }
+
+  private static class Waiting {
+    private final Priority priority;
+    private final long deadline;
+    private final Consumer<Ticket> onAdmit;
+    private final Runnable onReject;
+
+    Waiting(Priority priority, long deadline, Consumer<Ticket> onAdmit, Runnable onReject) {
+      this.priority = priority;
+      this.deadline = deadline;
+      this.onAdmit = onAdmit;
+      this.onReject = onReject;
+    }
+  }
+}
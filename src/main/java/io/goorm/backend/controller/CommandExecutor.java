@@ -0,0 +1,100 @@
+package io.goorm.backend.controller;
+
+import io.goorm.backend.config.RequestConfig;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 요청에서 명령을 실행하는 실행기
+ * JDK 21 이상이면 가상 스레드(요청마다 스레드 하나, DB/디스크 대기 중에는 OS 스레드를 점유하지 않음),
+ * 그 이하면 크기와 대기열을 제한한 고정 풀을 사용 (컴파일 대상이 17이므로 가상 스레드는 리플렉션으로 생성)
+ */
+public class CommandExecutor {
+  private final ExecutorService executor;
+  private final String description;
+  // 명령별 제한 시간 타이머
+  private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "command-timeout");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public CommandExecutor(RequestConfig config) {
+    ExecutorService virtual = null;
+    String type = config.getAsyncExecutor();
+    if (!"platform".equalsIgnoreCase(type)) {
+      virtual = newVirtualThreadExecutor();
+      if (virtual == null && "virtual".equalsIgnoreCase(type)) {
+        System.out.println("⚠️ 가상 스레드를 사용할 수 없는 JDK - 고정 크기 풀 사용");
+      }
+    }
+
+    if (virtual != null) {
+      this.executor = virtual;
+      this.description = "가상 스레드";
+    } else {
+      AtomicInteger threadNumber = new AtomicInteger();
+      int workers = config.getAsyncWorkers();
+      this.executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+          new ArrayBlockingQueue<>(config.getAsyncQueueSize()), r -> {
+            Thread thread = new Thread(r, "command-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          }, new ThreadPoolExecutor.AbortPolicy());
+      ((ThreadPoolExecutor) executor).allowCoreThreadTimeOut(true);
+      this.description = "고정 크기 풀 (" + workers + "개)";
+    }
+    System.out.println("명령 실행기: " + description);
+  }
+
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  // 가득 차면 RejectedExecutionException (고정 크기 풀)
+  public void execute(Runnable task) {
+    executor.execute(task);
+  }
+
+  // delayMillis 뒤 타이머 스레드에서 실행 (취소 가능)
+  public ScheduledFuture<?> schedule(Runnable task, long delayMillis) {
+    return timer.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  public void shutdown() {
+    timer.shutdownNow();
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  // 대기 중인 명령 수 (가상 스레드는 대기열이 없으므로 0)
+  public int getQueueDepth() {
+    return executor instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) executor).getQueue().size() : 0;
+  }
+
+  public int getActiveCount() {
+    return executor instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) executor).getActiveCount() : -1;
+  }
+}
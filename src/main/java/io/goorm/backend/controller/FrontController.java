@@ -1,8 +1,24 @@
 package io.goorm.backend.controller;
 
 import io.goorm.backend.handler.HandlerMapping;
+import io.goorm.backend.BoardDAO;
 import io.goorm.backend.command.Command;
+import io.goorm.backend.config.DatabaseConfig;
+import io.goorm.backend.config.RequestConfig;
+import io.goorm.backend.config.UploadConfig;
+import io.goorm.backend.metrics.MetricsRegistry;
+import io.goorm.backend.metrics.PrometheusWriter;
+import io.goorm.backend.search.BoardSearchIndex;
+import io.goorm.backend.storage.OrphanFileCollector;
+import io.goorm.backend.storage.ThumbnailService;
+import io.goorm.backend.storage.UploadExecutor;
+import io.goorm.backend.storage.UploadLayoutMigrator;
+import io.goorm.backend.util.MultipartStreamParser;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
 import javax.servlet.RequestDispatcher;
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
@@ -11,8 +27,12 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
-@WebServlet("/front")
+@WebServlet(value = "/front", asyncSupported = true)
 @MultipartConfig(maxFileSize = 10485760, // 10MB
     maxRequestSize = 52428800, // 50MB
     fileSizeThreshold = 2097152 // 2MB
@@ -20,10 +40,55 @@ import java.io.IOException;
 public class FrontController extends HttpServlet {
 
   private HandlerMapping handlerMapping;
+  private RequestConfig requestConfig;
+  // 비동기 처리 실행기 (비활성화면 null - 컨테이너 요청 스레드에서 처리)
+  private CommandExecutor commandExecutor;
+  // 입장 제어 (비활성화면 null)
+  private AdmissionController admissionController;
+  private MetricsRegistry metricsRegistry;
+  private MetricsRegistry.Collector metricsCollector;
 
   @Override
   public void init() throws ServletException {
     handlerMapping = new HandlerMapping();
+    requestConfig = RequestConfig.getInstance();
+    if (requestConfig.isAsyncEnabled()) {
+      commandExecutor = new CommandExecutor(requestConfig);
+    }
+    if (requestConfig.isAdmissionEnabled()) {
+      admissionController = new AdmissionController(requestConfig);
+    }
+    metricsRegistry = MetricsRegistry.getInstance();
+    metricsCollector = this::collectMetrics;
+    metricsRegistry.register(metricsCollector);
+
+    // 검색 색인 구축 (완료 전까지 검색은 LIKE로 처리)
+    BoardSearchIndex.getInstance().rebuildAsync(new BoardDAO());
+
+    // 기존 첨부파일을 현재 분산 디렉토리 구조로 이동 (이동 중에도 다운로드 가능)
+    if (UploadConfig.getInstance().isShardMigrateOnStartup()) {
+      new UploadLayoutMigrator().migrateAsync();
+    }
+
+    // 참조 없는 첨부파일 주기 정리
+    OrphanFileCollector.getInstance().start();
+  }
+
+  @Override
+  public void destroy() {
+    metricsRegistry.unregister(metricsCollector);
+    if (commandExecutor != null) {
+      commandExecutor.shutdown();
+    }
+    if (admissionController != null) {
+      admissionController.shutdown();
+    }
+    OrphanFileCollector.getInstance().stop();
+    ThumbnailService.getInstance().shutdown();
+    UploadExecutor.getInstance().shutdown();
+
+    // 커넥션 풀 정리
+    DatabaseConfig.shutdown();
   }
 
   @Override
@@ -41,7 +106,7 @@ public class FrontController extends HttpServlet {
   private void processRequest(HttpServletRequest request, HttpServletResponse response)
       throws ServletException, IOException {
 
-    String command = request.getParameter("command");
+    String command = resolveCommand(request);
 
     if (command == null || command.trim().isEmpty()) {
       // 기본값으로 게시글 목록으로 이동
@@ -49,28 +114,328 @@ public class FrontController extends HttpServlet {
       return;
     }
 
+    Command handler = handlerMapping.getCommand(command);
+
+    if (handler == null) {
+      request.setAttribute("error", "존재하지 않는 명령입니다: " + command);
+      response.sendRedirect("front?command=boardList");
+      return;
+    }
+
+    AdmissionController.Priority priority = admissionController != null
+        ? admissionController.classify(command, request) : null;
+
+    if (commandExecutor != null && request.isAsyncSupported() && request.getDispatcherType() == DispatcherType.REQUEST) {
+      processAsync(command, handler, priority, request, response);
+      return;
+    }
+
+    // 동기 처리 - 한도를 넘으면 최대 대기 시간만큼 기다린 뒤 거절
+    AdmissionController.Ticket ticket = null;
+    if (admissionController != null) {
+      try {
+        ticket = admissionController.admitBlocking(command, priority);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (ticket == null) {
+        rejectOverloaded(command, response);
+        return;
+      }
+    }
+
+    String viewPage;
+    boolean succeeded = false;
+    long startedAt = System.nanoTime();
     try {
-      Command handler = handlerMapping.getCommand(command);
+      viewPage = handler.execute(request, response);
+      succeeded = true;
+    } catch (Exception e) {
+      viewPage = errorView(request, e);
+    } finally {
+      recordLatency(command, request, startedAt, succeeded);
+      release(ticket, succeeded);
+    }
 
-      if (handler == null) {
-        request.setAttribute("error", "존재하지 않는 명령입니다: " + command);
-        response.sendRedirect("front?command=boardList");
+    if (viewPage != null) {
+      // 포워딩
+      RequestDispatcher dispatcher = request.getRequestDispatcher(viewPage);
+      dispatcher.forward(request, response);
+    }
+    // viewPage가 null이면 리다이렉트가 이미 처리됨
+  }
+
+  /**
+   * 비동기 처리 - 명령은 실행기에서 실행하고 컨테이너 요청 스레드는 바로 반환
+   * 뷰 이동은 AsyncContext.dispatch, 리다이렉트/직접 응답은 complete로 마무리
+   * 입장 한도를 넘으면 스레드를 점유하지 않고 대기열에서 기다렸다가 자리가 나면 실행
+   *
+   * 명령별 제한 시간은 컨테이너 시간 초과 대신 직접 잰다 (컨테이너는 시간 초과 시 요청을 끝내고 재사용하는데,
+   * 인터럽트로 멈추지 않는 JDBC/입출력 중인 명령이 그 뒤에 요청/응답을 건드리면 다른 요청의 응답을 망가뜨림)
+   * - 명령이 시작 전이면 바로 503으로 응답하고 마무리
+   * - 명령이 실행 중이면 인터럽트만 하고, 응답 마무리는 명령이 끝난 작업 스레드가 함 (아직 보내지 않았으면 503)
+   * 따라서 요청/응답은 어느 시점이든 한 스레드만 사용함
+   */
+  private void processAsync(String command, Command handler, AdmissionController.Priority priority,
+      HttpServletRequest request, HttpServletResponse response) throws IOException {
+    AdmissionController.Ticket ticket = null;
+    if (admissionController != null) {
+      ticket = admissionController.tryAdmit(command, priority);
+    }
+
+    // 필터가 감싼 요청/응답(XSS 방지 등)을 그대로 사용하도록 명시적으로 전달
+    AsyncContext asyncContext = request.startAsync(request, response);
+    asyncContext.setTimeout(0);
+
+    AsyncState state = new AsyncState();
+    long timeoutMillis = requestConfig.getTimeoutMillis(command);
+    if (timeoutMillis > 0) {
+      state.timeout = commandExecutor.schedule(() -> onTimeout(command, response, asyncContext, state, timeoutMillis),
+          timeoutMillis);
+    }
+    asyncContext.addListener(new AsyncListener() {
+      @Override
+      public void onTimeout(AsyncEvent event) {
+        // 컨테이너 시간 초과는 사용하지 않음 (setTimeout(0))
+      }
+
+      @Override
+      public void onError(AsyncEvent event) {
+        // 연결 오류 - 명령이 실행 중이면 작업 스레드가 마무리
+        if (state.abandon()) {
+          asyncContext.complete();
+        }
+      }
+
+      @Override
+      public void onComplete(AsyncEvent event) {
+        state.cancelTimeout();
+      }
+
+      @Override
+      public void onStartAsync(AsyncEvent event) {
+      }
+    });
+
+    if (admissionController == null || ticket != null) {
+      submit(command, handler, request, response, asyncContext, state, ticket, true);
+      return;
+    }
+
+    boolean queued = admissionController.enqueue(command, priority,
+        // 자리를 비운 스레드(다른 요청의 작업 스레드나 대기열 정리 스레드)에서 호출되므로 명령을 직접 실행하지 않음
+        admitted -> submit(command, handler, request, response, asyncContext, state, admitted, false),
+        () -> {
+          if (state.abandon()) {
+            rejectOverloadedQuietly(command, response);
+            asyncContext.complete();
+          }
+        });
+    if (!queued && state.abandon()) {
+      rejectOverloaded(command, response);
+      asyncContext.complete();
+    }
+  }
+
+  private void onTimeout(String command, HttpServletResponse response, AsyncContext asyncContext, AsyncState state,
+      long timeoutMillis) {
+    System.out.println("요청 처리 시간 초과: " + command + " (" + timeoutMillis + "ms)");
+    if (state.abandon()) {
+      // 아직 시작하지 않은 명령 (대기열 등) - 여기서 응답
+      try {
+        response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "요청 처리 시간이 초과되었습니다.");
+      } catch (IOException e) {
+        // 연결이 이미 끊긴 경우
+      }
+      asyncContext.complete();
+      return;
+    }
+    // 실행 중인 명령 - 인터럽트만 하고 응답은 작업 스레드에 맡김
+    state.timedOut = true;
+    synchronized (state) {
+      if (state.worker != null) {
+        state.worker.interrupt();
+      }
+    }
+  }
+
+  /**
+   * 명령을 실행기에 넘김 - 실행기가 거절하면 요청 스레드에서는 바로 실행하고,
+   * 대기열에서 입장한 경우(다른 스레드의 콜백)는 그 스레드를 붙잡지 않도록 503으로 거절
+   */
+  private void submit(String command, Command handler, HttpServletRequest request, HttpServletResponse response,
+      AsyncContext asyncContext, AsyncState state, AdmissionController.Ticket ticket, boolean onRequestThread) {
+    Runnable task = () -> {
+      synchronized (state) {
+        state.worker = Thread.currentThread();
+      }
+      if (!state.start()) {
+        synchronized (state) {
+          state.worker = null;
+        }
+        release(ticket, false); // 기다리는 동안 시간 초과나 연결 오류로 이미 응답함
         return;
       }
+      String viewPage;
+      boolean succeeded = false;
+      long startedAt = System.nanoTime();
+      try {
+        viewPage = handler.execute(request, response);
+        succeeded = true;
+      } catch (Exception e) {
+        viewPage = errorView(request, e);
+      } finally {
+        recordLatency(command, request, startedAt, succeeded);
+        synchronized (state) {
+          state.worker = null;
+        }
+        Thread.interrupted(); // 시간 초과로 걸린 인터럽트는 다음 작업에 남기지 않음
+        release(ticket, succeeded && !state.timedOut);
+      }
+      state.cancelTimeout();
+      finishAsync(command, response, asyncContext, state, viewPage);
+    };
 
-      String viewPage = handler.execute(request, response);
+    try {
+      commandExecutor.execute(task);
+    } catch (RejectedExecutionException e) {
+      if (onRequestThread) {
+        // 실행기가 가득 차면 요청 스레드에서 바로 처리
+        task.run();
+        return;
+      }
+      release(ticket, false);
+      if (state.abandon()) {
+        rejectOverloadedQuietly(command, response);
+        asyncContext.complete();
+      }
+    }
+  }
 
-      if (viewPage != null) {
-        // 포워딩
-        RequestDispatcher dispatcher = request.getRequestDispatcher(viewPage);
-        dispatcher.forward(request, response);
+  // 명령을 실행한 작업 스레드에서 응답 마무리 (요청/응답을 쓰는 마지막 스레드)
+  private void finishAsync(String command, HttpServletResponse response, AsyncContext asyncContext,
+      AsyncState state, String viewPage) {
+    try {
+      if (state.timedOut) {
+        // 시간 초과 후 끝난 명령 - 결과 화면은 버리고, 아직 보내지 않았으면 503
+        if (!response.isCommitted()) {
+          response.resetBuffer();
+          response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "요청 처리 시간이 초과되었습니다.");
+        }
+        asyncContext.complete();
+      } else if (viewPage != null) {
+        // 포워딩 (dispatch 경로는 컨텍스트 기준이므로 /로 시작)
+        asyncContext.dispatch(viewPage.startsWith("/") ? viewPage : "/" + viewPage);
+      } else {
+        // viewPage가 null이면 리다이렉트나 직접 응답이 이미 처리됨
+        asyncContext.complete();
       }
-      // viewPage가 null이면 리다이렉트가 이미 처리됨
+    } catch (IOException | IllegalStateException e) {
+      // 연결 오류로 컨테이너가 이미 요청을 끝낸 경우
+      System.out.println("비동기 응답 마무리 실패: " + command + " - " + e.getMessage());
+    }
+  }
 
-    } catch (Exception e) {
-      request.setAttribute("error", "요청 처리 중 오류가 발생했습니다: " + e.getMessage());
-      RequestDispatcher dispatcher = request.getRequestDispatcher("/board/list.jsp");
-      dispatcher.forward(request, response);
+  // 명령 실패 시 오류 메시지와 함께 목록 화면으로 이동
+  private String errorView(HttpServletRequest request, Exception e) {
+    request.setAttribute("error", "요청 처리 중 오류가 발생했습니다: " + e.getMessage());
+    return "/board/list.jsp";
+  }
+
+  // 명령 처리 시간 기록 (예외가 나거나 명령이 오류 메시지를 남기면 오류로 집계)
+  private void recordLatency(String command, HttpServletRequest request, long startedAt, boolean succeeded) {
+    boolean error = !succeeded || request.getAttribute("error") != null;
+    metricsRegistry.command(command).record(System.nanoTime() - startedAt, error);
+  }
+
+  // 실행기와 입장 제어 상태
+  private void collectMetrics(PrometheusWriter writer) {
+    if (commandExecutor != null) {
+      writer.gauge("board_command_executor_queue_depth", "실행을 기다리는 명령 수", commandExecutor.getQueueDepth())
+          .gauge("board_command_executor_active", "실행 중인 명령 수 (가상 스레드는 -1)",
+              commandExecutor.getActiveCount());
+    }
+    if (admissionController != null) {
+      writer.gauge("board_admission_in_flight", "입장한 뒤 처리 중인 요청 수", admissionController.getGlobalInFlight())
+          .counter("board_admission_admitted_total", "입장한 요청 수", admissionController.getAdmittedCount())
+          .counter("board_admission_queued_total", "대기열을 거친 요청 수", admissionController.getQueuedCount())
+          .counter("board_admission_rejected_total", "과부하로 거절한 요청 수", admissionController.getRejectedCount());
+      Map<String, int[]> limiters = admissionController.getLimiterStats();
+      for (Map.Entry<String, int[]> entry : limiters.entrySet()) {
+        writer.gauge("board_admission_limit", "명령별 동시 처리 한도", "command", entry.getKey(), entry.getValue()[0]);
+      }
+      for (Map.Entry<String, int[]> entry : limiters.entrySet()) {
+        writer.gauge("board_admission_command_in_flight", "명령별 처리 중인 요청 수",
+            "command", entry.getKey(), entry.getValue()[1]);
+      }
+      for (Map.Entry<String, int[]> entry : limiters.entrySet()) {
+        writer.gauge("board_admission_waiting", "명령별 대기 중인 요청 수", "command", entry.getKey(),
+            entry.getValue()[2]);
+      }
+    }
+  }
+
+  private void release(AdmissionController.Ticket ticket, boolean succeeded) {
+    if (ticket != null) {
+      ticket.release(succeeded);
+    }
+  }
+
+  // 과부하 - 기다리게 하지 않고 바로 503 (클라이언트는 Retry-After 후 재시도)
+  private void rejectOverloaded(String command, HttpServletResponse response) throws IOException {
+    System.out.println("요청 거절 (과부하): " + command);
+    response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    response.setHeader("Retry-After", String.valueOf(admissionController.getRetryAfterSeconds()));
+    response.setContentType("text/plain;charset=UTF-8");
+    response.getWriter().print("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+  }
+
+  private void rejectOverloadedQuietly(String command, HttpServletResponse response) {
+    try {
+      rejectOverloaded(command, response);
+    } catch (IOException e) {
+      // 연결이 이미 끊긴 경우
+    }
+  }
+
+  // 비동기 요청 하나의 상태 - 응답을 마무리하는 스레드가 하나뿐이도록 시작 전/실행 중/끝남을 구분
+  private static class AsyncState {
+    private static final int WAITING = 0;
+    private static final int RUNNING = 1;
+    private static final int ABANDONED = 2;
+
+    private final AtomicInteger phase = new AtomicInteger(WAITING);
+    // 명령을 실행 중인 스레드 (인터럽트와 해제는 이 객체의 잠금 안에서)
+    private Thread worker;
+    private volatile boolean timedOut;
+    private volatile ScheduledFuture<?> timeout;
+
+    // 작업 스레드가 명령 실행을 시작 - 이미 포기한 요청이면 false
+    boolean start() {
+      return phase.compareAndSet(WAITING, RUNNING);
+    }
+
+    // 시작 전인 요청을 포기 - 성공하면 호출한 쪽이 응답을 마무리
+    boolean abandon() {
+      return phase.compareAndSet(WAITING, ABANDONED);
+    }
+
+    void cancelTimeout() {
+      ScheduledFuture<?> scheduled = timeout;
+      if (scheduled != null) {
+        scheduled.cancel(false);
+      }
+    }
+  }
+
+  // multipart 요청은 getParameter가 본문 전체를 파싱하므로 쿼리 문자열에서 먼저 찾음
+  private String resolveCommand(HttpServletRequest request) {
+    if (MultipartStreamParser.isMultipart(request)) {
+      String command = MultipartStreamParser.queryParameter(request, "command");
+      if (command != null) {
+        return command;
+      }
     }
+    return request.getParameter("command");
   }
 }
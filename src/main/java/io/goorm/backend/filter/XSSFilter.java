@@ -4,7 +4,13 @@ import javax.servlet.*;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
 import java.io.IOException;
-import java.util.regex.Pattern;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class XSSFilter implements Filter {
 
@@ -28,7 +34,17 @@ public class XSSFilter implements Filter {
   }
 
   // XSS 방지를 위한 요청 래퍼 클래스
-  private static class XSSRequestWrapper extends HttpServletRequestWrapper {
+  // 파라미터와 헤더는 처음 읽을 때 한 번만 정리하고 요청이 끝날 때까지 결과를 재사용
+  // (명령과 JSP가 같은 값을 여러 번 읽어도 다시 검사하지 않음)
+  static class XSSRequestWrapper extends HttpServletRequestWrapper {
+    // 값이 없는 이름 (ConcurrentHashMap은 null을 저장할 수 없음)
+    private static final String[] ABSENT = new String[0];
+
+    // 비동기 처리에서는 요청 스레드와 작업 스레드가 모두 읽으므로 동시 접근 가능한 Map 사용
+    private final Map<String, String[]> parameters = new ConcurrentHashMap<>();
+    // 헤더 이름은 대소문자를 구분하지 않으므로 소문자로 저장
+    private final Map<String, String[]> headers = new ConcurrentHashMap<>();
+    private volatile Map<String, String[]> parameterMap;
 
     public XSSRequestWrapper(HttpServletRequest request) {
       super(request);
@@ -36,70 +52,221 @@ public class XSSFilter implements Filter {
 
     @Override
     public String getParameter(String parameter) {
-      String value = super.getParameter(parameter);
-      return stripXSS(value);
+      String[] values = getParameterValues(parameter);
+      return values != null && values.length > 0 ? values[0] : null;
     }
 
     @Override
     public String[] getParameterValues(String parameter) {
-      String[] values = super.getParameterValues(parameter);
-      if (values == null) {
+      if (parameter == null) {
         return null;
       }
+      String[] values = parameters.get(parameter);
+      if (values == null) {
+        values = parameters.computeIfAbsent(parameter, name -> stripAll(super.getParameterValues(name)));
+      }
+      return values != ABSENT ? values : null;
+    }
 
-      int count = values.length;
-      String[] encodedValues = new String[count];
-      for (int i = 0; i < count; i++) {
-        encodedValues[i] = stripXSS(values[i]);
+    // JSP EL(param, paramValues)은 이 Map을 사용
+    @Override
+    public Map<String, String[]> getParameterMap() {
+      Map<String, String[]> map = parameterMap;
+      if (map == null) {
+        map = new LinkedHashMap<>();
+        for (String name : super.getParameterMap().keySet()) {
+          map.put(name, getParameterValues(name));
+        }
+        map = Collections.unmodifiableMap(map);
+        parameterMap = map;
       }
+      return map;
+    }
 
-      return encodedValues;
+    @Override
+    public Enumeration<String> getParameterNames() {
+      return Collections.enumeration(getParameterMap().keySet());
     }
 
     @Override
     public String getHeader(String name) {
-      String value = super.getHeader(name);
-      return stripXSS(value);
+      String[] values = headerValues(name);
+      return values != null && values.length > 0 ? values[0] : null;
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+      String[] values = headerValues(name);
+      return Collections.enumeration(values != null ? Arrays.asList(values) : Collections.<String>emptyList());
     }
 
-    // XSS 패턴 제거
-    private String stripXSS(String value) {
+    private String[] headerValues(String name) {
+      if (name == null) {
+        return null;
+      }
+      String key = name.toLowerCase(Locale.ROOT);
+      String[] values = headers.get(key);
+      if (values == null) {
+        values = headers.computeIfAbsent(key, header -> {
+          Enumeration<String> original = super.getHeaders(name);
+          return original != null ? stripAll(Collections.list(original).toArray(new String[0])) : ABSENT;
+        });
+      }
+      return values != ABSENT ? values : null;
+    }
+
+    // 배열의 모든 값 정리 (바뀐 값이 없으면 원본 배열 그대로)
+    private static String[] stripAll(String[] values) {
+      if (values == null) {
+        return ABSENT;
+      }
+      String[] stripped = values;
+      for (int i = 0; i < values.length; i++) {
+        String value = stripXSS(values[i]);
+        if (value != values[i]) {
+          if (stripped == values) {
+            stripped = values.clone();
+          }
+          stripped[i] = value;
+        }
+      }
+      return stripped;
+    }
+
+    // XSS 패턴 제거 - 문자열을 한 번 훑으며 태그 문자는 엔티티로 바꾸고 위험한 패턴은 지움
+    // 바꿀 것이 없으면 원본 문자열을 그대로 반환
+    static String stripXSS(String value) {
       if (value == null) {
         return null;
       }
 
-      // HTML 태그 제거
-      value = value.replaceAll("<", "&lt;").replaceAll(">", "&gt;");
+      // 패턴을 지우면 앞뒤가 붙어 새 패턴이 생길 수 있으므로 더 바뀌지 않을 때까지 반복
+      String result = value;
+      while (true) {
+        String next = stripOnce(result);
+        if (next == result) {
+          return result;
+        }
+        result = next;
+      }
+    }
 
-      // 스크립트 태그 제거
-      value = value.replaceAll("(?i)<script.*?>.*?</script.*?>", "");
-      value = value.replaceAll("(?i)<script.*?>", "");
+    private static String stripOnce(String value) {
+      int length = value.length();
+      StringBuilder out = null;
+      int copied = 0;
+      int i = 0;
+      while (i < length) {
+        char c = value.charAt(i);
+        String replacement = "";
+        int matched;
+        if (c == '<') {
+          replacement = "&lt;";
+          matched = 1;
+        } else if (c == '>') {
+          replacement = "&gt;";
+          matched = 1;
+        } else {
+          matched = matchPattern(value, i, lowerAscii(c));
+        }
 
-      // 이벤트 핸들러 제거
-      value = value.replaceAll("(?i)on\\w+\\s*=", "");
+        if (matched == 0) {
+          i++;
+          continue;
+        }
+        if (out == null) {
+          out = new StringBuilder(length + 16);
+        }
+        out.append(value, copied, i).append(replacement);
+        i += matched;
+        copied = i;
+      }
+      return out == null ? value : out.append(value, copied, length).toString();
+    }
 
-      // javascript: 프로토콜 제거
-      value = value.replaceAll("(?i)javascript:", "");
+    // i 위치에서 시작하는 위험한 패턴의 길이 (없으면 0), 첫 글자로 후보를 먼저 거름
+    private static int matchPattern(String value, int i, char first) {
+      switch (first) {
+        case 'o':
+          // 이벤트 핸들러 (onclick= 등)
+          return matchEventHandler(value, i);
+        case 'j':
+          // javascript: 프로토콜
+          return matchWord(value, i, "javascript:");
+        case 'v':
+          // vbscript: 프로토콜
+          return matchWord(value, i, "vbscript:");
+        case 'e': {
+          // expression(), eval()
+          int matched = matchCall(value, i, "expression");
+          return matched > 0 ? matched : matchCall(value, i, "eval");
+        }
+        default:
+          return 0;
+      }
+    }
 
-      // vbscript: 프로토콜 제거
-      value = value.replaceAll("(?i)vbscript:", "");
+    // on + 영문/숫자/_ 하나 이상 + 공백 + =
+    private static int matchEventHandler(String value, int i) {
+      int end = i + matchWord(value, i, "on");
+      if (end == i) {
+        return 0;
+      }
+      int nameStart = end;
+      while (end < value.length() && isWordChar(value.charAt(end))) {
+        end++;
+      }
+      if (end == nameStart) {
+        return 0;
+      }
+      end = skipWhitespace(value, end);
+      return end < value.length() && value.charAt(end) == '=' ? end + 1 - i : 0;
+    }
 
-      // expression() 제거
-      value = value.replaceAll("(?i)expression\\s*\\(", "");
+    // 이름 + 공백 + 여는 괄호
+    private static int matchCall(String value, int i, String name) {
+      int end = i + matchWord(value, i, name);
+      if (end == i) {
+        return 0;
+      }
+      end = skipWhitespace(value, end);
+      return end < value.length() && value.charAt(end) == '(' ? end + 1 - i : 0;
+    }
 
-      // eval() 제거
-      value = value.replaceAll("(?i)eval\\s*\\(", "");
+    // 대소문자 구분 없이 word와 일치하면 그 길이 (word는 소문자)
+    private static int matchWord(String value, int i, String word) {
+      int length = word.length();
+      if (value.length() - i < length) {
+        return 0;
+      }
+      for (int k = 0; k < length; k++) {
+        if (lowerAscii(value.charAt(i + k)) != word.charAt(k)) {
+          return 0;
+        }
+      }
+      return length;
+    }
 
-      // <iframe> 제거
-      value = value.replaceAll("(?i)<iframe.*?>.*?</iframe.*?>", "");
+    private static int skipWhitespace(String value, int i) {
+      while (i < value.length() && isWhitespace(value.charAt(i))) {
+        i++;
+      }
+      return i;
+    }
 
-      // <object> 제거
-      value = value.replaceAll("(?i)<object.*?>.*?</object.*?>", "");
+    // 정규식 (?i)와 같이 ASCII 글자만 대소문자를 구분하지 않음
+    private static char lowerAscii(char c) {
+      return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
 
-      // <embed> 제거
-      value = value.replaceAll("(?i)<embed.*?>", "");
+    // 정규식 \w
+    private static boolean isWordChar(char c) {
+      return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
 
-      return value;
+    // 정규식 \s
+    private static boolean isWhitespace(char c) {
+      return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
   }
 }
@@ -22,7 +22,13 @@ public class HandlerMapping {
     commandMap.put("logout", new LogoutCommand());
     commandMap.put("fileUpload", new FileUploadCommand());
     commandMap.put("fileDownload", new FileDownloadCommand());
+    commandMap.put("fileZipDownload", new FileZipDownloadCommand());
     commandMap.put("fileDelete", new FileDeleteCommand());
+    commandMap.put("uploadStart", new UploadStartCommand());
+    commandMap.put("uploadChunk", new UploadChunkCommand());
+    commandMap.put("uploadStatus", new UploadStatusCommand());
+    commandMap.put("uploadComplete", new UploadCompleteCommand());
+    commandMap.put("metrics", new MetricsCommand());
   }
 
   public Command getCommand(String commandName) {
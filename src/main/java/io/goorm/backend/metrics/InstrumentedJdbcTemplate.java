@@ -0,0 +1,244 @@
+package io.goorm.backend.metrics;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.StatementCallback;
+import org.springframework.jdbc.support.KeyHolder;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * SQL 문별 처리 시간을 기록하는 JdbcTemplate
+ * DAO가 쓰는 메서드와 내부에서 모이는 execute를 모두 감싸되, 한 호출이 안에서 다른 메서드를
+ * 거치더라도 가장 바깥 호출만 기록 (스레드별 깊이 카운터, 기록 시 객체 생성 없음)
+ * execute(ConnectionCallback)은 안에서 실행하는 SQL을 알 수 없으므로 콜백 안의 문장은 timed로 기록
+ */
+public class InstrumentedJdbcTemplate extends JdbcTemplate {
+  private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+  private static final String UNKNOWN_SQL = "(unknown)";
+
+  private final MetricsRegistry registry = MetricsRegistry.getInstance();
+
+  public InstrumentedJdbcTemplate(DataSource dataSource) {
+    super(dataSource);
+  }
+
+  @Override
+  public <T> T execute(StatementCallback<T> action) throws DataAccessException {
+    int[] depth = enter();
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      T result = super.execute(action);
+      failed = false;
+      return result;
+    } finally {
+      exit(depth, sqlOf(action), startedAt, failed);
+    }
+  }
+
+  @Override
+  public <T> T execute(PreparedStatementCreator psc, PreparedStatementCallback<T> action)
+      throws DataAccessException {
+    int[] depth = enter();
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      T result = super.execute(psc, action);
+      failed = false;
+      return result;
+    } finally {
+      exit(depth, sqlOf(psc), startedAt, failed);
+    }
+  }
+
+  @Override
+  public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) throws DataAccessException {
+    int[] depth = enter();
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      List<T> result = super.query(sql, rowMapper, args);
+      failed = false;
+      return result;
+    } finally {
+      exit(depth, sql, startedAt, failed);
+    }
+  }
+
+  @Override
+  public <T> T query(String sql, ResultSetExtractor<T> rse, Object... args) throws DataAccessException {
+    int[] depth = enter();
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      T result = super.query(sql, rse, args);
+      failed = false;
+      return result;
+    } finally {
+      exit(depth, sql, startedAt, failed);
+    }
+  }
+
+  @Override
+  public void query(String sql, RowCallbackHandler rch, Object... args) throws DataAccessException {
+    int[] depth = enter();
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      super.query(sql, rch, args);
+      failed = false;
+    } finally {
+      exit(depth, sql, startedAt, failed);
+    }
+  }
+
+  @Override
+  public <T> T queryForObject(String sql, RowMapper<T> rowMapper, Object... args) throws DataAccessException {
+    int[] depth = enter();
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      T result = super.queryForObject(sql, rowMapper, args);
+      failed = false;
+      return result;
+    } finally {
+      exit(depth, sql, startedAt, failed);
+    }
+  }
+
+  @Override
+  public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) throws DataAccessException {
+    int[] depth = enter();
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      T result = super.queryForObject(sql, requiredType, args);
+      failed = false;
+      return result;
+    } finally {
+      exit(depth, sql, startedAt, failed);
+    }
+  }
+
+  @Override
+  public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) throws DataAccessException {
+    int[] depth = enter();
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      List<T> result = super.queryForList(sql, elementType, args);
+      failed = false;
+      return result;
+    } finally {
+      exit(depth, sql, startedAt, failed);
+    }
+  }
+
+  @Override
+  public int update(String sql, Object... args) throws DataAccessException {
+    int[] depth = enter();
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      int result = super.update(sql, args);
+      failed = false;
+      return result;
+    } finally {
+      exit(depth, sql, startedAt, failed);
+    }
+  }
+
+  @Override
+  public int update(PreparedStatementCreator psc, KeyHolder generatedKeyHolder) throws DataAccessException {
+    int[] depth = enter();
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      int result = super.update(psc, generatedKeyHolder);
+      failed = false;
+      return result;
+    } finally {
+      exit(depth, sqlOf(psc), startedAt, failed);
+    }
+  }
+
+  @Override
+  public int[] batchUpdate(String sql, BatchPreparedStatementSetter pss) throws DataAccessException {
+    int[] depth = enter();
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      int[] result = super.batchUpdate(sql, pss);
+      failed = false;
+      return result;
+    } finally {
+      exit(depth, sql, startedAt, failed);
+    }
+  }
+
+  @Override
+  public int[] batchUpdate(String sql, List<Object[]> batchArgs) throws DataAccessException {
+    int[] depth = enter();
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      int[] result = super.batchUpdate(sql, batchArgs);
+      failed = false;
+      return result;
+    } finally {
+      exit(depth, sql, startedAt, failed);
+    }
+  }
+
+  /**
+   * ConnectionCallback 안에서 직접 실행하는 문장 하나의 실행 시간 기록
+   */
+  public static <T> T timed(String sql, SqlWork<T> work) throws SQLException {
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      T result = work.run();
+      failed = false;
+      return result;
+    } finally {
+      MetricsRegistry.getInstance().statement(sql).record(System.nanoTime() - startedAt, failed);
+    }
+  }
+
+  @FunctionalInterface
+  public interface SqlWork<T> {
+    T run() throws SQLException;
+  }
+
+  private static int[] enter() {
+    int[] depth = DEPTH.get();
+    depth[0]++;
+    return depth;
+  }
+
+  private void exit(int[] depth, String sql, long startedAt, boolean failed) {
+    if (--depth[0] == 0) {
+      registry.statement(sql).record(System.nanoTime() - startedAt, failed);
+    }
+  }
+
+  private static String sqlOf(Object provider) {
+    if (provider instanceof SqlProvider) {
+      String sql = ((SqlProvider) provider).getSql();
+      if (sql != null) {
+        return sql;
+      }
+    }
+    return UNKNOWN_SQL;
+  }
+}
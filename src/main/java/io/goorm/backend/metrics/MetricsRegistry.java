@@ -0,0 +1,90 @@
+package io.goorm.backend.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+/**
+ * 명령별/SQL 문별 처리 시간 히스토그램과 그 밖의 지표 수집기 보관
+ * 히스토그램은 이름으로 한 번 만들면 계속 재사용하므로 기록 시에는 Map 조회만 함
+ */
+public class MetricsRegistry {
+  private static MetricsRegistry instance;
+
+  // IN (?, ?, ...) 목록은 개수와 관계없이 같은 문장으로 집계
+  private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  // 원본 SQL -> 정규화된 SQL의 히스토그램 (IN 목록 크기별로 늘어나므로 상한을 둠)
+  private static final int MAX_SQL_ALIASES = 2000;
+
+  private final Map<String, LatencyHistogram> commands = new ConcurrentHashMap<>();
+  private final Map<String, LatencyHistogram> statements = new ConcurrentHashMap<>();
+  private final Map<String, LatencyHistogram> sqlAliases = new ConcurrentHashMap<>();
+  private final List<Collector> collectors = new CopyOnWriteArrayList<>();
+
+  private MetricsRegistry() {
+  }
+
+  public static synchronized MetricsRegistry getInstance() {
+    if (instance == null) {
+      instance = new MetricsRegistry();
+    }
+    return instance;
+  }
+
+  public LatencyHistogram command(String command) {
+    LatencyHistogram histogram = commands.get(command);
+    return histogram != null ? histogram : commands.computeIfAbsent(command, name -> new LatencyHistogram());
+  }
+
+  public LatencyHistogram statement(String sql) {
+    LatencyHistogram histogram = sqlAliases.get(sql);
+    if (histogram != null) {
+      return histogram;
+    }
+    histogram = statements.computeIfAbsent(normalize(sql), name -> new LatencyHistogram());
+    if (sqlAliases.size() < MAX_SQL_ALIASES) {
+      sqlAliases.put(sql, histogram);
+    }
+    return histogram;
+  }
+
+  /**
+   * 캐시, 풀, 백그라운드 작업 등의 지표를 내보내는 수집기 등록 (지표 조회 시 호출)
+   */
+  public void register(Collector collector) {
+    collectors.add(collector);
+  }
+
+  public void unregister(Collector collector) {
+    collectors.remove(collector);
+  }
+
+  // 이름순 정렬 사본
+  public Map<String, LatencyHistogram> getCommands() {
+    return new TreeMap<>(commands);
+  }
+
+  public Map<String, LatencyHistogram> getStatements() {
+    return new TreeMap<>(statements);
+  }
+
+  public List<Collector> getCollectors() {
+    return collectors;
+  }
+
+  static String normalize(String sql) {
+    String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+    return IN_LIST.matcher(normalized).replaceAll("(?)");
+  }
+
+  /**
+   * 지표 수집기
+   */
+  public interface Collector {
+    void collect(PrometheusWriter writer);
+  }
+}
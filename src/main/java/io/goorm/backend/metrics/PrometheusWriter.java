@@ -0,0 +1,96 @@
+package io.goorm.backend.metrics;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prometheus 텍스트 형식(0.0.4) 작성
+ * 같은 이름의 HELP/TYPE 줄은 처음 한 번만 씀
+ */
+public class PrometheusWriter {
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private static final double[] QUANTILES = { 0.5, 0.99, 0.999 };
+
+  private final StringBuilder out = new StringBuilder(16384);
+  private final Set<String> described = new HashSet<>();
+
+  public PrometheusWriter gauge(String name, String help, double value) {
+    describe(name, help, "gauge");
+    sample(name, null, null, value);
+    return this;
+  }
+
+  public PrometheusWriter counter(String name, String help, double value) {
+    describe(name, help, "counter");
+    sample(name, null, null, value);
+    return this;
+  }
+
+  // 라벨 하나짜리 counter
+  public PrometheusWriter counter(String name, String help, String label, String labelValue, double value) {
+    describe(name, help, "counter");
+    sample(name, label, labelValue, value);
+    return this;
+  }
+
+  // 라벨 하나짜리 gauge
+  public PrometheusWriter gauge(String name, String help, String label, String labelValue, double value) {
+    describe(name, help, "gauge");
+    sample(name, label, labelValue, value);
+    return this;
+  }
+
+  /**
+   * 처리 시간 히스토그램을 summary(초 단위 p50/p99/p999, _sum, _count)로 작성
+   */
+  public PrometheusWriter summary(String name, String help, String label, String labelValue,
+      LatencyHistogram histogram) {
+    describe(name, help, "summary");
+    String labels = label + "=\"" + escape(labelValue) + "\"";
+    for (double quantile : QUANTILES) {
+      out.append(name).append('{').append(labels).append(",quantile=\"").append(quantile).append("\"} ")
+          .append(seconds(histogram.percentile(quantile))).append('\n');
+    }
+    out.append(name).append("_sum{").append(labels).append("} ").append(seconds(histogram.getSumNanos())).append('\n');
+    out.append(name).append("_count{").append(labels).append("} ").append(histogram.getCount()).append('\n');
+    return this;
+  }
+
+  private void describe(String name, String help, String type) {
+    if (described.add(name)) {
+      out.append("# HELP ").append(name).append(' ').append(help.replace("\\", "\\\\").replace("\n", "\\n"))
+          .append('\n');
+      out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+  }
+
+  private void sample(String name, String label, String labelValue, double value) {
+    out.append(name);
+    if (label != null) {
+      out.append('{').append(label).append("=\"").append(escape(labelValue)).append("\"}");
+    }
+    out.append(' ');
+    if (value == Math.rint(value) && !Double.isInfinite(value)) {
+      out.append((long) value);
+    } else {
+      out.append(value);
+    }
+    out.append('\n');
+  }
+
+  private static double seconds(long nanos) {
+    return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+  }
+
+  // 라벨 값 이스케이프 (역슬래시, 큰따옴표, 줄바꿈)
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  @Override
+  public String toString() {
+    return out.toString();
+  }
+}
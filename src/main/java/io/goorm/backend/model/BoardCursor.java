@@ -0,0 +1,58 @@
+package io.goorm.backend.model;
+
+import java.sql.Timestamp;
+
+/**
+ * 키셋(seek) 페이지네이션용 커서
+ * 마지막으로 본 게시글의 (created_at, id) 위치를 나타냄
+ * 문자열 형식: {epoch 밀리초}_{나노초}_{id}
+ */
+public class BoardCursor {
+  private final Timestamp createdAt;
+  private final long id;
+
+  public BoardCursor(Timestamp createdAt, long id) {
+    this.createdAt = createdAt;
+    this.id = id;
+  }
+
+  /**
+   * 커서 문자열 해석 - 형식이 잘못되었으면 null 반환
+   */
+  public static BoardCursor decode(String value) {
+    if (value == null || value.trim().isEmpty()) {
+      return null;
+    }
+    String[] tokens = value.trim().split("_");
+    if (tokens.length != 3) {
+      return null;
+    }
+    try {
+      Timestamp createdAt = new Timestamp(Long.parseLong(tokens[0]));
+      createdAt.setNanos(Integer.parseInt(tokens[1]));
+      return new BoardCursor(createdAt, Long.parseLong(tokens[2]));
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * URL 파라미터로 전달할 커서 문자열 생성
+   */
+  public String encode() {
+    return createdAt.getTime() + "_" + createdAt.getNanos() + "_" + id;
+  }
+
+  public Timestamp getCreatedAt() {
+    return createdAt;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  @Override
+  public String toString() {
+    return encode();
+  }
+}
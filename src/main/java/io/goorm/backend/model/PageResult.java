@@ -0,0 +1,25 @@
+package io.goorm.backend.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 페이지 분량의 목록과 전체 건수를 함께 담는 결과 클래스
+ */
+public class PageResult<T> {
+  private final List<T> items;
+  private final int totalCount;
+
+  public PageResult(List<T> items, int totalCount) {
+    this.items = items != null ? items : new ArrayList<>();
+    this.totalCount = totalCount;
+  }
+
+  public List<T> getItems() {
+    return items;
+  }
+
+  public int getTotalCount() {
+    return totalCount;
+  }
+}
@@ -0,0 +1,298 @@
+package io.goorm.backend.search;
+
+import io.goorm.backend.Board;
+import io.goorm.backend.BoardDAO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/내용/작성자 검색용 메모리 역색인 (bigram 기반)
+ * - 한글은 띄어쓰기 단위 토큰화가 어려우므로 두 글자씩 잘라 색인
+ * - 검색어의 모든 bigram을 포함하는 게시글 ID만 후보로 돌려주고,
+ *   최종 일치 여부는 DAO가 후보 행에만 LIKE를 다시 적용해 확인
+ * - 서버 시작 시 전체 게시글로 한 번 구축하고, 이후 작성/수정/삭제 시 증분 반영
+ */
+public class BoardSearchIndex {
+  private static BoardSearchIndex instance;
+
+  private final FieldIndex titleIndex = new FieldIndex();
+  private final FieldIndex contentIndex = new FieldIndex();
+  private final FieldIndex authorIndex = new FieldIndex();
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // 색인이 완성되기 전에는 검색에 사용하지 않음 (DAO가 LIKE 검색으로 처리)
+  private volatile boolean ready;
+  private boolean building;
+  // 구축 중에 작성/수정/삭제된 게시글 - 구축 스캔 결과보다 최신이므로 스캔에서 건너뜀
+  private final Set<Long> touchedDuringBuild = new HashSet<>();
+
+  private BoardSearchIndex() {
+  }
+
+  public static synchronized BoardSearchIndex getInstance() {
+    if (instance == null) {
+      instance = new BoardSearchIndex();
+    }
+    return instance;
+  }
+
+  /**
+   * 전체 게시글을 읽어 색인 구축
+   */
+  public void rebuild(BoardDAO boardDAO) {
+    long start = System.currentTimeMillis();
+    lock.writeLock().lock();
+    try {
+      ready = false;
+      building = true;
+      touchedDuringBuild.clear();
+      titleIndex.clear();
+      contentIndex.clear();
+      authorIndex.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    int[] count = { 0 };
+    try {
+      boardDAO.forEachBoard(board -> {
+        lock.writeLock().lock();
+        try {
+          if (!touchedDuringBuild.contains(board.getId())) {
+            indexBoard(board.getId(), board.getTitle(), board.getContent(), board.getAuthorName());
+            count[0]++;
+          }
+        } finally {
+          lock.writeLock().unlock();
+        }
+      });
+
+      lock.writeLock().lock();
+      try {
+        building = false;
+        touchedDuringBuild.clear();
+        ready = true;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      System.out.println("검색 색인 구축 완료: " + count[0] + "건, " + (System.currentTimeMillis() - start) + "ms");
+    } catch (RuntimeException e) {
+      lock.writeLock().lock();
+      try {
+        building = false;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      System.out.println("검색 색인 구축 실패 - LIKE 검색으로 동작: " + e.getMessage());
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * 백그라운드 스레드에서 색인 구축 (서버 시작을 지연시키지 않음)
+   */
+  public void rebuildAsync(BoardDAO boardDAO) {
+    Thread thread = new Thread(() -> rebuild(boardDAO), "board-search-index-builder");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * 새 게시글 색인
+   */
+  public void addBoard(Long id, String title, String content, String authorName) {
+    lock.writeLock().lock();
+    try {
+      markTouched(id);
+      indexBoard(id, title, content, authorName);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 수정된 게시글의 제목/내용 재색인 (작성자는 바뀌지 않음)
+   */
+  public void updateBoard(Long id, String title, String content) {
+    lock.writeLock().lock();
+    try {
+      markTouched(id);
+      titleIndex.put(id, title);
+      contentIndex.put(id, content);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 삭제된 게시글 색인 제거
+   */
+  public void removeBoard(Long id) {
+    lock.writeLock().lock();
+    try {
+      markTouched(id);
+      titleIndex.remove(id);
+      contentIndex.remove(id);
+      authorIndex.remove(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 검색어를 포함할 가능성이 있는 게시글 ID 목록
+   * 색인을 쓸 수 없는 경우(구축 전, 한 글자 검색어, LIKE 와일드카드 포함) null 반환
+   */
+  public List<Long> findCandidates(String searchType, String keyword) {
+    if (!ready || keyword == null) {
+      return null;
+    }
+    if (keyword.indexOf('%') >= 0 || keyword.indexOf('_') >= 0) {
+      return null;
+    }
+    Set<String> grams = toBigrams(keyword);
+    if (grams.isEmpty()) {
+      return null;
+    }
+
+    lock.readLock().lock();
+    try {
+      return fieldFor(searchType).intersect(grams);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public int getIndexedCount() {
+    lock.readLock().lock();
+    try {
+      return titleIndex.docCount();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void indexBoard(Long id, String title, String content, String authorName) {
+    titleIndex.put(id, title);
+    contentIndex.put(id, content);
+    authorIndex.put(id, authorName);
+  }
+
+  private void markTouched(Long id) {
+    if (building) {
+      touchedDuringBuild.add(id);
+    }
+  }
+
+  private FieldIndex fieldFor(String searchType) {
+    if ("content".equals(searchType)) {
+      return contentIndex;
+    }
+    if ("author".equals(searchType)) {
+      return authorIndex;
+    }
+    return titleIndex;
+  }
+
+  /**
+   * 문자열을 소문자 bigram 집합으로 변환 (두 글자 미만이면 빈 집합)
+   */
+  static Set<String> toBigrams(String text) {
+    if (text == null) {
+      return Collections.emptySet();
+    }
+    String normalized = text.toLowerCase(Locale.ROOT);
+    Set<String> grams = new LinkedHashSet<>();
+    for (int i = 0; i + 1 < normalized.length(); i++) {
+      grams.add(normalized.substring(i, i + 2));
+    }
+    return grams;
+  }
+
+  /**
+   * 필드 하나의 역색인: bigram -> 게시글 ID 집합
+   */
+  private static class FieldIndex {
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    // 게시글별 색인된 bigram - 수정/삭제 시 postings에서 빼기 위해 보관
+    private final Map<Long, String[]> docGrams = new HashMap<>();
+
+    void put(Long id, String text) {
+      remove(id);
+      Set<String> grams = toBigrams(text);
+      if (grams.isEmpty()) {
+        return;
+      }
+      String[] keys = new String[grams.size()];
+      int i = 0;
+      for (String gram : grams) {
+        postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        keys[i++] = gram;
+      }
+      docGrams.put(id, keys);
+    }
+
+    void remove(Long id) {
+      String[] keys = docGrams.remove(id);
+      if (keys == null) {
+        return;
+      }
+      for (String gram : keys) {
+        Set<Long> ids = postings.get(gram);
+        if (ids != null) {
+          ids.remove(id);
+          if (ids.isEmpty()) {
+            postings.remove(gram);
+          }
+        }
+      }
+    }
+
+    // 가장 작은 posting부터 교집합을 구해 비교 횟수를 줄임
+    List<Long> intersect(Set<String> grams) {
+      List<Set<Long>> lists = new ArrayList<>(grams.size());
+      for (String gram : grams) {
+        Set<Long> ids = postings.get(gram);
+        if (ids == null) {
+          return new ArrayList<>();
+        }
+        lists.add(ids);
+      }
+      lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+      List<Long> result = new ArrayList<>();
+      outer: for (Long id : lists.get(0)) {
+        for (int i = 1; i < lists.size(); i++) {
+          if (!lists.get(i).contains(id)) {
+            continue outer;
+          }
+        }
+        result.add(id);
+      }
+      return result;
+    }
+
+    int docCount() {
+      return docGrams.size();
+    }
+
+    void clear() {
+      postings.clear();
+      docGrams.clear();
+    }
+  }
+}
@@ -0,0 +1,343 @@
+package io.goorm.backend.storage;
+
+import io.goorm.backend.FileUpload;
+import io.goorm.backend.FileUploadDAO;
+import io.goorm.backend.config.UploadConfig;
+import io.goorm.backend.util.FileUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 내용 주소 기반 첨부파일 저장소
+ * 업로드를 받으면서 SHA-256을 계산하고, 같은 내용은 "해시+확장자" 이름의 물리 파일 하나를 공유
+ *
+ * 참조 카운트는 같은 file_path를 가진 file_upload 행 수로 계산하며,
+ * 아직 DB에 기록되지 않은 업로드(보류 참조)는 메모리에서 따로 세어 그 사이에 삭제되지 않도록 함
+ */
+public class BlobStore {
+  private static BlobStore instance;
+
+  private static final int LOCK_STRIPES = 64;
+
+  private final UploadConfig uploadConfig;
+  private final FileUploadDAO fileUploadDAO;
+
+  // 같은 물리 파일에 대한 저장/삭제를 직렬화하는 잠금 (경로 해시로 분산)
+  private final Object[] locks = new Object[LOCK_STRIPES];
+  // 저장은 되었지만 아직 DB 기록이 끝나지 않은 참조 수
+  // 경로별 잠금은 서로 다른 잠금이라 여러 스레드가 다른 키를 동시에 바꾸므로 동시 접근 가능한 Map 사용
+  // (키 하나의 변경과 파일 작업의 순서는 해당 경로의 잠금으로 보장)
+  private final Map<String, Integer> pendingReferences = new ConcurrentHashMap<>();
+
+  private final AtomicLong dedupHitCount = new AtomicLong();
+  private final AtomicLong dedupSavedBytes = new AtomicLong();
+  private final AtomicLong deletedBlobCount = new AtomicLong();
+
+  private BlobStore() {
+    this.uploadConfig = UploadConfig.getInstance();
+    this.fileUploadDAO = new FileUploadDAO();
+    for (int i = 0; i < locks.length; i++) {
+      locks[i] = new Object();
+    }
+  }
+
+  public static synchronized BlobStore getInstance() {
+    if (instance == null) {
+      instance = new BlobStore();
+    }
+    return instance;
+  }
+
+  /**
+   * 업로드 스트림 저장 - 같은 내용의 파일이 이미 있으면 새로 쓰지 않고 재사용
+   * 반환된 파일은 보류 참조 상태이므로 DB 기록 후 commit, 실패 시 discard를 호출해야 함
+   * maxSize를 넘으면 IllegalArgumentException
+   */
+  public FileUpload store(String originalFilename, String contentType, InputStream content, long maxSize)
+      throws IOException {
+    return place(originalFilename, contentType, spool(originalFilename, content, maxSize));
+  }
+
+  /**
+   * 업로드 스트림을 임시 파일로 받으면서 SHA-256과 크기를 함께 계산 (내용은 한 번만 읽음)
+   * 반환된 임시 파일은 place로 저장소에 옮겨야 하며, 옮기지 않을 때는 호출 측에서 삭제
+   * maxSize를 넘으면 IllegalArgumentException (임시 파일은 삭제)
+   */
+  public Spooled spool(String originalFilename, InputStream content, long maxSize) throws IOException {
+    Path tempDir = Paths.get(uploadConfig.getRootPath(), "tmp");
+    Files.createDirectories(tempDir);
+    Path tempFile = tempDir.resolve(UUID.randomUUID().toString() + ".part");
+
+    MessageDigest digest = newDigest();
+    long size = 0;
+    try (OutputStream out = Files.newOutputStream(tempFile, StandardOpenOption.CREATE_NEW)) {
+      byte[] buffer = new byte[uploadConfig.getBufferSize()];
+      int n;
+      while ((n = content.read(buffer)) != -1) {
+        size += n;
+        if (size > maxSize) {
+          throw new IllegalArgumentException("파일 크기 제한 초과: " + originalFilename);
+        }
+        digest.update(buffer, 0, n);
+        out.write(buffer, 0, n);
+      }
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(tempFile);
+      throw e;
+    }
+
+    return new Spooled(tempFile, toHex(digest.digest()), size);
+  }
+
+  /**
+   * spool로 받은 임시 파일을 저장소로 옮김 (다시 읽지 않고 이름 변경 또는 중복이면 삭제만)
+   * 반환된 파일은 store와 같이 보류 참조 상태
+   */
+  public FileUpload place(String originalFilename, String contentType, Spooled spooled) throws IOException {
+    return place(spooled.path, originalFilename, contentType, spooled.contentHash, spooled.size);
+  }
+
+  /**
+   * 이미 디스크에 있는 파일(분할 업로드로 조립된 파일 등)을 복사 없이 저장소로 옮김
+   * 해시 계산을 위해 한 번 읽으며, 같은 내용이 있으면 원본 파일은 삭제
+   * 반환된 파일은 store와 같이 보류 참조 상태
+   */
+  public FileUpload adopt(String originalFilename, String contentType, Path source) throws IOException {
+    MessageDigest digest = newDigest();
+    long size = 0;
+    try (InputStream in = Files.newInputStream(source)) {
+      byte[] buffer = new byte[uploadConfig.getBufferSize()];
+      int n;
+      while ((n = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, n);
+        size += n;
+      }
+    }
+    return place(source, originalFilename, contentType, toHex(digest.digest()), size);
+  }
+
+  // 해시 이름의 위치로 파일을 옮기거나, 같은 내용이 이미 있으면 재사용
+  private FileUpload place(Path source, String originalFilename, String contentType, String contentHash, long size)
+      throws IOException {
+    String storedFilename = contentHash + FileUtils.getFileExtension(originalFilename).toLowerCase();
+    boolean isImage = uploadConfig.isImageFile(originalFilename);
+    String uploadDir = isImage ? uploadConfig.getImagesPath() : uploadConfig.getFilesPath();
+    Path target = uploadConfig.resolveStoragePath(uploadDir, storedFilename);
+    String key = target.toString();
+
+    synchronized (lockFor(key)) {
+      try {
+        if (Files.exists(target)) {
+          // 이미 있는 내용 - 임시 파일은 버리고 수정 시각만 갱신 (정리 작업의 유예 기간 기준)
+          Files.deleteIfExists(source);
+          Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+          dedupHitCount.incrementAndGet();
+          dedupSavedBytes.addAndGet(size);
+          System.out.println("중복 파일 재사용: " + target + " (" + size + " bytes)");
+        } else {
+          Files.createDirectories(target.getParent());
+          moveIntoPlace(source, target);
+          System.out.println("파일 저장: " + target + " (" + size + " bytes)");
+        }
+      } catch (IOException | RuntimeException e) {
+        Files.deleteIfExists(source);
+        throw e;
+      }
+      pendingReferences.merge(key, 1, Integer::sum);
+    }
+
+    FileUpload fileUpload = new FileUpload();
+    fileUpload.setOriginalFilename(originalFilename);
+    fileUpload.setStoredFilename(storedFilename);
+    fileUpload.setFilePath(key);
+    fileUpload.setFileSize(size);
+    fileUpload.setContentType(contentType != null ? contentType : "application/octet-stream");
+    fileUpload.setContentHash(contentHash);
+    if (isImage) {
+      fileUpload.setWebUrl(uploadConfig.getImageWebUrl(storedFilename));
+    }
+    fileUpload.setUploadDate(new Timestamp(System.currentTimeMillis()));
+    return fileUpload;
+  }
+
+  /**
+   * DB 기록이 끝난 파일의 보류 참조 해제
+   */
+  public void commit(List<FileUpload> fileUploads) {
+    for (FileUpload fileUpload : fileUploads) {
+      String key = fileUpload.getFilePath();
+      synchronized (lockFor(key)) {
+        releasePending(key);
+      }
+    }
+  }
+
+  /**
+   * DB 기록에 실패한 파일의 보류 참조를 해제하고, 다른 참조가 없으면 물리 파일 삭제
+   */
+  public void discard(List<FileUpload> fileUploads) {
+    for (FileUpload fileUpload : fileUploads) {
+      String key = fileUpload.getFilePath();
+      synchronized (lockFor(key)) {
+        releasePending(key);
+        deleteIfUnreferenced(key);
+      }
+    }
+  }
+
+  /**
+   * file_upload 행을 삭제한 뒤 호출 - 마지막 참조였으면 물리 파일 삭제
+   */
+  public boolean release(String filePath) {
+    synchronized (lockFor(filePath)) {
+      return deleteIfUnreferenced(filePath);
+    }
+  }
+
+  /**
+   * 기존 물리 파일을 새 경로로 옮기고 참조 행 갱신 (디렉토리 구조 변경용)
+   * 새 경로에 같은 내용이 이미 있으면 기존 파일만 삭제
+   * 중단 후 다시 실행해도 되도록 이미 옮겨진 파일은 참조 행만 갱신
+   */
+  public void relocate(String oldPath, Path newPath, Runnable updateReferences) throws IOException {
+    String newKey = newPath.toString();
+    int oldStripe = stripeOf(oldPath);
+    int newStripe = stripeOf(newKey);
+
+    // 교착을 피하기 위해 항상 작은 번호의 잠금부터 잡음
+    synchronized (locks[Math.min(oldStripe, newStripe)]) {
+      synchronized (locks[Math.max(oldStripe, newStripe)]) {
+        Path source = Paths.get(oldPath);
+        if (Files.exists(source)) {
+          if (Files.exists(newPath)) {
+            Files.delete(source);
+          } else {
+            Files.createDirectories(newPath.getParent());
+            moveIntoPlace(source, newPath);
+          }
+        } else if (!Files.exists(newPath)) {
+          System.out.println("옮길 파일이 없음: " + oldPath);
+          return;
+        }
+        updateReferences.run();
+      }
+    }
+  }
+
+  // 호출 측에서 해당 경로의 잠금을 잡고 있어야 함
+  private void releasePending(String key) {
+    pendingReferences.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+  }
+
+  // 호출 측에서 해당 경로의 잠금을 잡고 있어야 함
+  private boolean deleteIfUnreferenced(String filePath) {
+    if (pendingReferences.containsKey(filePath)) {
+      return false;
+    }
+    try {
+      if (fileUploadDAO.countByFilePath(filePath) > 0) {
+        return false;
+      }
+      boolean deleted = Files.deleteIfExists(Paths.get(filePath));
+      if (deleted) {
+        deletedBlobCount.incrementAndGet();
+        System.out.println("참조가 없는 파일 삭제: " + filePath);
+      }
+      return deleted;
+    } catch (Exception e) {
+      // 확인에 실패하면 지우지 않음 (남은 파일은 정리 작업이 처리)
+      System.out.println("파일 삭제 실패: " + filePath + " - " + e.getMessage());
+      return false;
+    }
+  }
+
+  private void moveIntoPlace(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      // 임시 폴더와 업로드 폴더가 다른 파일 시스템인 경우 (경로 잠금 안이므로 안전)
+      Files.move(source, target);
+    }
+  }
+
+  private Object lockFor(String key) {
+    return locks[stripeOf(key)];
+  }
+
+  private int stripeOf(String key) {
+    return (key.hashCode() & 0x7fffffff) % locks.length;
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+    }
+  }
+
+  private static String toHex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      hex.append(Character.forDigit((b >> 4) & 0xf, 16));
+      hex.append(Character.forDigit(b & 0xf, 16));
+    }
+    return hex.toString();
+  }
+
+  /**
+   * spool로 받은 임시 파일과 그 내용의 해시, 크기
+   */
+  public static class Spooled {
+    private final Path path;
+    private final String contentHash;
+    private final long size;
+
+    private Spooled(Path path, String contentHash, long size) {
+      this.path = path;
+      this.contentHash = contentHash;
+      this.size = size;
+    }
+
+    public Path getPath() {
+      return path;
+    }
+
+    public String getContentHash() {
+      return contentHash;
+    }
+
+    public long getSize() {
+      return size;
+    }
+  }
+
+  public long getDedupHitCount() {
+    return dedupHitCount.get();
+  }
+
+  public long getDedupSavedBytes() {
+    return dedupSavedBytes.get();
+  }
+
+  public long getDeletedBlobCount() {
+    return deletedBlobCount.get();
+  }
+}
@@ -0,0 +1,276 @@
+package io.goorm.backend.storage;
+
+import io.goorm.backend.FileUpload;
+import io.goorm.backend.config.UploadConfig;
+import io.goorm.backend.util.UploadValidator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 분할(이어받기) 업로드 처리
+ * - 시작: 전체 크기만큼 미리 잡아 둔 파일과 상태 파일로 세션 생성
+ * - 조각: SHA-256을 확인하면서 고정 크기 버퍼로 읽어 해당 위치에 바로 기록 (positioned write)
+ * - 완료: 조립된 파일을 복사 없이 저장소(BlobStore)로 옮김
+ * 세션 상태는 디스크에 있으므로 연결이 끊기거나 서버가 재시작되어도 빠진 조각만 다시 보내면 됨
+ */
+public class ChunkedUploadManager {
+  private static ChunkedUploadManager instance;
+
+  // 첫 조각에 파일 시그니처가 모두 들어가도록 하는 최소 조각 크기
+  private static final int MIN_CHUNK_SIZE = 4096;
+  private static final Pattern UPLOAD_ID_PATTERN = Pattern.compile("[0-9a-f]{8}(-[0-9a-f]{4}){3}-[0-9a-f]{12}");
+
+  private final UploadConfig uploadConfig;
+  private final Path sessionsRoot;
+  private final UploadValidator uploadValidator = new UploadValidator();
+  // 사용 중인 세션 (없으면 디스크에서 다시 읽음)
+  private final Map<String, ChunkedUploadSession> sessions = new ConcurrentHashMap<>();
+
+  private ChunkedUploadManager() {
+    this.uploadConfig = UploadConfig.getInstance();
+    this.sessionsRoot = Paths.get(uploadConfig.getChunkedPath());
+  }
+
+  public static synchronized ChunkedUploadManager getInstance() {
+    if (instance == null) {
+      instance = new ChunkedUploadManager();
+    }
+    return instance;
+  }
+
+  /**
+   * 업로드 세션 시작 - chunkSize가 0 이하면 기본값, 최소 크기보다 작으면 최소 크기 사용
+   * 허용되지 않는 값이면 IllegalArgumentException
+   */
+  public ChunkedUploadSession start(String userId, Long boardId, String originalFilename, String contentType,
+      long fileSize, int chunkSize) throws IOException {
+    if (chunkSize <= 0) {
+      chunkSize = uploadConfig.getChunkedDefaultChunkSize();
+    }
+    chunkSize = Math.max(chunkSize, MIN_CHUNK_SIZE);
+    if (chunkSize > uploadConfig.getChunkedMaxChunkSize()) {
+      throw new IllegalArgumentException("조각 크기가 너무 큽니다: " + chunkSize);
+    }
+    if (fileSize < 0) {
+      throw new IllegalArgumentException("잘못된 파일 크기입니다: " + fileSize);
+    }
+
+    String id = UUID.randomUUID().toString();
+    Path directory = sessionsRoot.resolve(id);
+    Files.createDirectories(directory);
+
+    ChunkedUploadSession session = new ChunkedUploadSession(id, directory);
+    session.init(userId, boardId, originalFilename,
+        contentType != null ? contentType : "application/octet-stream", fileSize, chunkSize);
+
+    // 전체 크기만큼 미리 잡아 두고 조각은 각자 위치에 기록
+    try (RandomAccessFile data = new RandomAccessFile(session.getDataFile().toFile(), "rw")) {
+      data.setLength(fileSize);
+    }
+    session.save();
+    sessions.put(id, session);
+
+    System.out.println("분할 업로드 시작: " + id + " - " + originalFilename + " (" + fileSize + " bytes, "
+        + session.getChunkCount() + "조각)");
+    return session;
+  }
+
+  /**
+   * 세션 조회 - 없거나 만료되었으면 null
+   */
+  public ChunkedUploadSession getSession(String uploadId) throws IOException {
+    if (uploadId == null || !UPLOAD_ID_PATTERN.matcher(uploadId).matches()) {
+      return null; // 경로 조작 방지
+    }
+    ChunkedUploadSession session = sessions.get(uploadId);
+    if (session == null) {
+      Path directory = sessionsRoot.resolve(uploadId);
+      if (!Files.exists(directory.resolve(ChunkedUploadSession.STATE_FILE))) {
+        return null;
+      }
+      session = ChunkedUploadSession.load(uploadId, directory);
+      ChunkedUploadSession existing = sessions.putIfAbsent(uploadId, session);
+      if (existing != null) {
+        session = existing;
+      }
+    }
+    if (isExpired(session, System.currentTimeMillis())) {
+      remove(session);
+      return null;
+    }
+    return session;
+  }
+
+  /**
+   * 조각 하나를 받아 기록
+   * 길이나 체크섬이 맞지 않으면 IllegalArgumentException (기록된 내용은 받은 것으로 표시하지 않음)
+   * 완료 처리 중이거나 같은 조각을 다른 요청이 기록 중이면 IllegalStateException
+   */
+  public void writeChunk(ChunkedUploadSession session, int index, InputStream content, String checksum)
+      throws IOException {
+    if (index < 0 || index >= session.getChunkCount()) {
+      throw new IllegalArgumentException("잘못된 조각 번호입니다: " + index);
+    }
+    session.beginWrite(index);
+    boolean received = false;
+    try {
+      writeChunkData(session, index, content, checksum);
+      received = true;
+    } finally {
+      session.endWrite(index, received);
+    }
+  }
+
+  private void writeChunkData(ChunkedUploadSession session, int index, InputStream content, String checksum)
+      throws IOException {
+    // 첫 조각은 앞부분 바이트로 실제 파일 형식 확인 (맞지 않으면 기록 전에 중단)
+    if (index == 0) {
+      content = uploadValidator.validatingContent(session.getOriginalFilename(), content);
+    }
+
+    long offset = session.getChunkOffset(index);
+    long expectedLength = session.getChunkLength(index);
+    MessageDigest digest = newDigest();
+    long written = 0;
+
+    try (FileChannel channel = FileChannel.open(session.getDataFile(), StandardOpenOption.WRITE)) {
+      byte[] buffer = new byte[uploadConfig.getBufferSize()];
+      int n;
+      while ((n = content.read(buffer)) != -1) {
+        if (written + n > expectedLength) {
+          throw new IllegalArgumentException("조각 길이가 예상보다 깁니다: " + index);
+        }
+        digest.update(buffer, 0, n);
+        ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, n);
+        while (chunk.hasRemaining()) {
+          written += channel.write(chunk, offset + written);
+        }
+      }
+    }
+
+    if (written != expectedLength) {
+      throw new IllegalArgumentException("조각 길이가 맞지 않습니다: " + index + " (" + written + "/" + expectedLength + ")");
+    }
+    String actual = toHex(digest.digest());
+    if (checksum == null || !actual.equalsIgnoreCase(checksum.trim())) {
+      throw new IllegalArgumentException("조각 체크섬이 맞지 않습니다: " + index);
+    }
+  }
+
+  /**
+   * 모든 조각을 받은 세션을 저장소로 옮기고 DB에 기록할 정보를 반환 (보류 참조 상태)
+   * DB 기록 후 BlobStore.commit, 실패 시 BlobStore.discard를 호출하고 remove로 세션을 정리해야 함
+   */
+  public FileUpload complete(ChunkedUploadSession session) throws IOException {
+    if (!session.beginComplete()) {
+      throw new IllegalStateException("아직 받지 못했거나 전송 중인 조각이 있거나 이미 완료 처리 중입니다.");
+    }
+    try {
+      return BlobStore.getInstance().adopt(session.getOriginalFilename(), session.getContentType(),
+          session.getDataFile());
+    } catch (IOException | RuntimeException e) {
+      session.cancelComplete();
+      throw e;
+    }
+  }
+
+  public void remove(ChunkedUploadSession session) {
+    sessions.remove(session.getId());
+    deleteDirectory(session.getDirectory());
+  }
+
+  /**
+   * 만료된 세션 정리 (참조 없는 파일 정리 작업에서 호출) - 정리한 세션 수 반환
+   */
+  public int purgeExpired() throws IOException {
+    if (!Files.isDirectory(sessionsRoot)) {
+      return 0;
+    }
+    long now = System.currentTimeMillis();
+    int purged = 0;
+    try (Stream<Path> directories = Files.list(sessionsRoot)) {
+      for (Path directory : (Iterable<Path>) directories::iterator) {
+        String id = directory.getFileName().toString();
+        try {
+          ChunkedUploadSession session = sessions.get(id);
+          if (session == null) {
+            session = ChunkedUploadSession.load(id, directory);
+          }
+          if (isExpired(session, now) && !session.isCompleting()) {
+            remove(session);
+            purged++;
+          }
+        } catch (NoSuchFileException e) {
+          // 상태 파일이 없는 폴더 (시작 도중 중단) - 폴더 시각으로 판단
+          if (Files.getLastModifiedTime(directory).toMillis() < now - expiryMillis()) {
+            deleteDirectory(directory);
+            purged++;
+          }
+        }
+      }
+    }
+    if (purged > 0) {
+      System.out.println("만료된 분할 업로드 세션 정리: " + purged + "개");
+    }
+    return purged;
+  }
+
+  private boolean isExpired(ChunkedUploadSession session, long now) {
+    return session.getUpdatedAt() < now - expiryMillis();
+  }
+
+  private long expiryMillis() {
+    return TimeUnit.HOURS.toMillis(uploadConfig.getChunkedExpiryHours());
+  }
+
+  private void deleteDirectory(Path directory) {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+        try {
+          Files.deleteIfExists(path);
+        } catch (IOException e) {
+          System.out.println("분할 업로드 파일 삭제 실패: " + path + " - " + e.getMessage());
+        }
+      });
+    } catch (NoSuchFileException e) {
+      // 이미 삭제됨
+    } catch (IOException e) {
+      System.out.println("분할 업로드 폴더 삭제 실패: " + directory + " - " + e.getMessage());
+    }
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+    }
+  }
+
+  private static String toHex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      hex.append(Character.forDigit((b >> 4) & 0xf, 16));
+      hex.append(Character.forDigit(b & 0xf, 16));
+    }
+    return hex.toString();
+  }
+}
@@ -0,0 +1,224 @@
+package io.goorm.backend.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Properties;
+
+/**
+ * 분할 업로드 세션 하나의 상태
+ * 업로드 폴더 아래 세션 폴더에 미리 크기를 잡아 둔 data.part 파일과 session.properties로 보관되어
+ * 서버가 재시작되어도 받은 조각부터 이어서 업로드할 수 있음
+ */
+public class ChunkedUploadSession {
+  static final String DATA_FILE = "data.part";
+  static final String STATE_FILE = "session.properties";
+
+  private final String id;
+  private final Path directory;
+  private String userId;
+  private Long boardId;
+  private String originalFilename;
+  private String contentType;
+  private long fileSize;
+  private int chunkSize;
+  private int chunkCount;
+  private BitSet receivedChunks = new BitSet();
+  private long createdAt;
+  private long updatedAt;
+  private boolean completing;
+  // 지금 기록 중인 조각 (메모리에만 보관 - 재시작하면 진행 중이던 전송은 모두 끊김)
+  private final BitSet writingChunks = new BitSet();
+
+  ChunkedUploadSession(String id, Path directory) {
+    this.id = id;
+    this.directory = directory;
+  }
+
+  // 조각 하나의 예상 길이 (마지막 조각만 짧을 수 있음)
+  public long getChunkLength(int index) {
+    long start = (long) index * chunkSize;
+    return Math.min(chunkSize, fileSize - start);
+  }
+
+  public long getChunkOffset(int index) {
+    return (long) index * chunkSize;
+  }
+
+  public synchronized boolean isChunkReceived(int index) {
+    return receivedChunks.get(index);
+  }
+
+  public synchronized int getReceivedCount() {
+    return receivedChunks.cardinality();
+  }
+
+  public synchronized boolean isComplete() {
+    return receivedChunks.cardinality() == chunkCount;
+  }
+
+  // 아직 받지 못한 조각 번호 목록 (JSON 배열 형식)
+  public synchronized String getMissingChunksJson() {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = receivedChunks.nextClearBit(0); i < chunkCount; i = receivedChunks.nextClearBit(i + 1)) {
+      if (json.length() > 1) {
+        json.append(',');
+      }
+      json.append(i);
+    }
+    return json.append(']').toString();
+  }
+
+  /**
+   * 조각 기록 시작 - 완료 처리 중이거나 같은 조각을 이미 기록 중이면 IllegalStateException
+   * 이미 받은 조각을 다시 보내면 덮어쓰기 전에 받지 않은 상태로 저장해,
+   * 다시 보내다 끊기거나 체크섬이 틀려도 깨진 내용이 받은 조각으로 남지 않도록 함
+   */
+  synchronized void beginWrite(int index) throws IOException {
+    if (completing) {
+      throw new IllegalStateException("이미 완료 처리 중인 업로드입니다.");
+    }
+    if (writingChunks.get(index)) {
+      throw new IllegalStateException("같은 조각을 전송 중입니다: " + index);
+    }
+    if (receivedChunks.get(index)) {
+      receivedChunks.clear(index);
+      save();
+    }
+    writingChunks.set(index);
+  }
+
+  // 조각 기록 종료 - received면 받은 조각으로 표시
+  synchronized void endWrite(int index, boolean received) throws IOException {
+    writingChunks.clear(index);
+    if (received) {
+      receivedChunks.set(index);
+      updatedAt = System.currentTimeMillis();
+      save();
+    }
+  }
+
+  // 모든 조각을 받았고 기록 중인 조각이 없을 때만 완료 처리 시작 (이후 조각 기록은 거절)
+  synchronized boolean beginComplete() {
+    if (completing || !writingChunks.isEmpty() || !isComplete()) {
+      return false;
+    }
+    completing = true;
+    return true;
+  }
+
+  synchronized void cancelComplete() {
+    completing = false;
+  }
+
+  synchronized boolean isCompleting() {
+    return completing;
+  }
+
+  /**
+   * 상태 파일 저장 - 임시 파일에 쓴 뒤 교체해 중간에 끊겨도 이전 상태가 남도록 함
+   */
+  synchronized void save() throws IOException {
+    Properties state = new Properties();
+    state.setProperty("userId", userId);
+    state.setProperty("boardId", String.valueOf(boardId));
+    state.setProperty("originalFilename", originalFilename);
+    state.setProperty("contentType", contentType);
+    state.setProperty("fileSize", String.valueOf(fileSize));
+    state.setProperty("chunkSize", String.valueOf(chunkSize));
+    state.setProperty("receivedChunks", Base64.getEncoder().encodeToString(receivedChunks.toByteArray()));
+    state.setProperty("createdAt", String.valueOf(createdAt));
+    state.setProperty("updatedAt", String.valueOf(updatedAt));
+
+    Path temp = directory.resolve(STATE_FILE + ".tmp");
+    try (OutputStream out = Files.newOutputStream(temp)) {
+      state.store(out, "chunked upload " + id);
+    }
+    Files.move(temp, directory.resolve(STATE_FILE), StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  static ChunkedUploadSession load(String id, Path directory) throws IOException {
+    Properties state = new Properties();
+    try (InputStream in = Files.newInputStream(directory.resolve(STATE_FILE))) {
+      state.load(in);
+    }
+    ChunkedUploadSession session = new ChunkedUploadSession(id, directory);
+    session.userId = state.getProperty("userId");
+    session.boardId = Long.valueOf(state.getProperty("boardId"));
+    session.originalFilename = state.getProperty("originalFilename");
+    session.contentType = state.getProperty("contentType");
+    session.fileSize = Long.parseLong(state.getProperty("fileSize"));
+    session.chunkSize = Integer.parseInt(state.getProperty("chunkSize"));
+    session.chunkCount = computeChunkCount(session.fileSize, session.chunkSize);
+    session.receivedChunks = BitSet.valueOf(Base64.getDecoder().decode(state.getProperty("receivedChunks", "")));
+    session.createdAt = Long.parseLong(state.getProperty("createdAt"));
+    session.updatedAt = Long.parseLong(state.getProperty("updatedAt"));
+    return session;
+  }
+
+  static int computeChunkCount(long fileSize, int chunkSize) {
+    return (int) Math.max(1, (fileSize + chunkSize - 1) / chunkSize);
+  }
+
+  void init(String userId, Long boardId, String originalFilename, String contentType, long fileSize, int chunkSize) {
+    this.userId = userId;
+    this.boardId = boardId;
+    this.originalFilename = originalFilename;
+    this.contentType = contentType;
+    this.fileSize = fileSize;
+    this.chunkSize = chunkSize;
+    this.chunkCount = computeChunkCount(fileSize, chunkSize);
+    this.createdAt = System.currentTimeMillis();
+    this.updatedAt = createdAt;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  Path getDirectory() {
+    return directory;
+  }
+
+  Path getDataFile() {
+    return directory.resolve(DATA_FILE);
+  }
+
+  public String getUserId() {
+    return userId;
+  }
+
+  public Long getBoardId() {
+    return boardId;
+  }
+
+  public String getOriginalFilename() {
+    return originalFilename;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public long getFileSize() {
+    return fileSize;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  public int getChunkCount() {
+    return chunkCount;
+  }
+
+  public synchronized long getUpdatedAt() {
+    return updatedAt;
+  }
+}
@@ -0,0 +1,400 @@
+package io.goorm.backend.storage;
+
+import io.goorm.backend.FileUpload;
+import io.goorm.backend.FileUploadDAO;
+import io.goorm.backend.cache.HotFileCache;
+import io.goorm.backend.config.DatabaseConfig;
+import io.goorm.backend.metrics.InstrumentedJdbcTemplate;
+import io.goorm.backend.config.UploadConfig;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 참조가 없는 첨부파일을 주기적으로 정리하는 백그라운드 작업
+ *
+ * 디스크 -> DB: 업로드 폴더를 배치 단위로 훑어 어떤 file_upload 행도 가리키지 않는 파일 삭제
+ * DB -> 디스크: file_upload를 id 순으로 훑어 물리 파일이 없는 행 보고 (설정한 경우에만 삭제)
+ * 최근 파일은 업로드 중일 수 있으므로 유예 기간이 지난 것만 대상으로 하고,
+ * 삭제는 초당 최대 개수로 제한해 일반 요청의 I/O와 경쟁하지 않도록 함
+ */
+public class OrphanFileCollector {
+  private static OrphanFileCollector instance;
+
+  // 없는 비율로 중단을 판단할 최소 행 수 (적은 행으로는 판단하지 않음)
+  private static final int DANGLING_RATIO_MIN_ROWS = 10;
+
+  private final UploadConfig uploadConfig;
+  private final JdbcTemplate jdbcTemplate;
+  private final FileUploadDAO fileUploadDAO;
+  private ScheduledExecutorService scheduler;
+
+  // 지표
+  private final AtomicLong runCount = new AtomicLong();
+  private final AtomicLong reclaimedFileCount = new AtomicLong();
+  private final AtomicLong reclaimedBytes = new AtomicLong();
+  private final AtomicLong deletedRowCount = new AtomicLong();
+  private volatile long lastRunMillis;
+  private volatile long lastRunDurationMillis;
+  private volatile int lastDanglingRowCount;
+
+  private OrphanFileCollector() {
+    this.uploadConfig = UploadConfig.getInstance();
+    this.jdbcTemplate = new InstrumentedJdbcTemplate(DatabaseConfig.getDataSource());
+    this.fileUploadDAO = new FileUploadDAO();
+  }
+
+  public static synchronized OrphanFileCollector getInstance() {
+    if (instance == null) {
+      instance = new OrphanFileCollector();
+    }
+    return instance;
+  }
+
+  /**
+   * 주기 실행 시작 (첫 실행은 한 주기 뒤)
+   */
+  public synchronized void start() {
+    if (scheduler != null) {
+      return;
+    }
+    long interval = uploadConfig.getGcIntervalMinutes();
+    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "orphan-file-collector");
+      thread.setDaemon(true);
+      thread.setPriority(Thread.MIN_PRIORITY);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(this::runSafely, interval, interval, TimeUnit.MINUTES);
+  }
+
+  public synchronized void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  private void runSafely() {
+    try {
+      collect();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      System.out.println("참조 없는 파일 정리 실패: " + e.getMessage());
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * 한 번 정리 실행
+   */
+  public void collect() throws IOException, InterruptedException {
+    long startedAt = System.currentTimeMillis();
+    long cutoff = startedAt - TimeUnit.MINUTES.toMillis(uploadConfig.getGcGraceMinutes());
+    long reclaimedBefore = reclaimedBytes.get();
+
+    collectTempFiles(cutoff);
+    ChunkedUploadManager.getInstance().purgeExpired();
+    collectUnreferencedFiles(Paths.get(uploadConfig.getFilesPath()), cutoff);
+    collectUnreferencedFiles(Paths.get(uploadConfig.getImagesPath()), cutoff);
+    collectUnreferencedThumbnails(cutoff);
+    collectDanglingRows(cutoff);
+
+    runCount.incrementAndGet();
+    lastRunMillis = startedAt;
+    lastRunDurationMillis = System.currentTimeMillis() - startedAt;
+    System.out.println("참조 없는 파일 정리 완료 - 회수 " + (reclaimedBytes.get() - reclaimedBefore)
+        + " bytes, " + lastRunDurationMillis + "ms");
+  }
+
+  // 중단된 업로드의 임시 파일
+  private void collectTempFiles(long cutoff) throws IOException, InterruptedException {
+    Path tempDir = Paths.get(uploadConfig.getRootPath(), "tmp");
+    if (!Files.isDirectory(tempDir)) {
+      return;
+    }
+    List<Path> stale = new ArrayList<>();
+    try (Stream<Path> files = Files.list(tempDir)) {
+      files.filter(path -> isOlderThan(path, cutoff)).forEach(stale::add);
+    }
+    for (Path path : stale) {
+      long size = sizeOf(path);
+      if (Files.deleteIfExists(path)) {
+        recordReclaimed(size);
+      }
+      throttle();
+    }
+  }
+
+  // 디스크 -> DB: 저장 파일명을 배치로 조회해 참조하는 행이 없는 파일 삭제
+  private void collectUnreferencedFiles(Path baseDir, long cutoff) throws IOException, InterruptedException {
+    if (!Files.isDirectory(baseDir)) {
+      return;
+    }
+    // 썸네일 폴더는 따로 처리
+    Path thumbnailsDir = Paths.get(uploadConfig.getThumbnailsPath());
+    try (Stream<Path> files = Files.walk(baseDir)) {
+      Iterator<Path> iterator = files
+          .filter(path -> !path.startsWith(thumbnailsDir) && Files.isRegularFile(path)).iterator();
+      List<Path> batch = new ArrayList<>();
+      while (iterator.hasNext()) {
+        Path path = iterator.next();
+        if (isOlderThan(path, cutoff)) {
+          batch.add(path);
+        }
+        if (batch.size() >= uploadConfig.getGcBatchSize()) {
+          deleteUnreferenced(batch);
+          batch.clear();
+        }
+      }
+      deleteUnreferenced(batch);
+    }
+  }
+
+  // 썸네일: 어떤 행의 thumbnail_path에도 없는 파일 삭제 (원본이 모두 삭제된 썸네일)
+  private void collectUnreferencedThumbnails(long cutoff) throws IOException, InterruptedException {
+    Path thumbnailsDir = Paths.get(uploadConfig.getThumbnailsPath());
+    if (!Files.isDirectory(thumbnailsDir)) {
+      return;
+    }
+    try (Stream<Path> files = Files.walk(thumbnailsDir)) {
+      Iterator<Path> iterator = files.filter(Files::isRegularFile).iterator();
+      List<Path> batch = new ArrayList<>();
+      while (iterator.hasNext()) {
+        Path path = iterator.next();
+        if (isOlderThan(path, cutoff)) {
+          batch.add(path);
+        }
+        if (batch.size() >= uploadConfig.getGcBatchSize()) {
+          deleteUnreferencedThumbnails(batch);
+          batch.clear();
+        }
+      }
+      deleteUnreferencedThumbnails(batch);
+    }
+  }
+
+  private void deleteUnreferencedThumbnails(List<Path> batch) throws IOException, InterruptedException {
+    // 썸네일 경로는 모두 ThumbnailService가 같은 방식으로 만들므로 경로 문자열로 비교
+    if (batch.isEmpty()) {
+      return;
+    }
+    List<String> paths = new ArrayList<>();
+    for (Path path : batch) {
+      paths.add(path.toString());
+    }
+    String placeholders = String.join(",", Collections.nCopies(paths.size(), "?"));
+    Set<String> referenced = new HashSet<>(jdbcTemplate.queryForList(
+        "SELECT thumbnail_path FROM file_upload WHERE thumbnail_path IN (" + placeholders + ")",
+        String.class, paths.toArray()));
+
+    for (Path path : batch) {
+      if (referenced.contains(path.toString())) {
+        continue;
+      }
+      long size = sizeOf(path);
+      if (Files.deleteIfExists(path)) {
+        recordReclaimed(size);
+        System.out.println("참조 없는 썸네일 회수: " + path + " (" + size + " bytes)");
+      }
+      throttle();
+    }
+  }
+
+  private void deleteUnreferenced(List<Path> batch) throws InterruptedException {
+    if (batch.isEmpty()) {
+      return;
+    }
+    Collections.sort(batch);
+
+    // 경로 문자열 표기(구분자 등)가 달라도 맞도록 저장 파일명으로 비교
+    List<String> names = new ArrayList<>();
+    for (Path path : batch) {
+      names.add(path.getFileName().toString());
+    }
+    String placeholders = String.join(",", Collections.nCopies(names.size(), "?"));
+    Set<String> referenced = new HashSet<>(jdbcTemplate.queryForList(
+        "SELECT stored_filename FROM file_upload WHERE stored_filename IN (" + placeholders + ")",
+        String.class, names.toArray()));
+
+    for (Path path : batch) {
+      if (referenced.contains(path.getFileName().toString())) {
+        continue;
+      }
+      long size = sizeOf(path);
+      // 저장소 잠금 안에서 참조를 다시 확인한 뒤 삭제
+      if (BlobStore.getInstance().release(path.toString())) {
+        recordReclaimed(size);
+        System.out.println("참조 없는 파일 회수: " + path + " (" + size + " bytes)");
+      }
+      throttle();
+    }
+  }
+
+  // DB -> 디스크: 물리 파일이 없는 file_upload 행 보고 (설정 시 삭제)
+  // 업로드 폴더가 마운트되지 않았거나 경로 설정이 잘못된 경우 모든 행이 "없음"으로 보이므로
+  // 기준 폴더가 비어 있거나 한 배치에서 없는 행이 너무 많으면 건너뛰고, 한 번 실행의 처리 수도 제한
+  private void collectDanglingRows(long cutoff) throws InterruptedException {
+    lastDanglingRowCount = 0;
+    if (!hasStoredFiles(uploadConfig.getFilesPath()) || !hasStoredFiles(uploadConfig.getImagesPath())) {
+      System.out.println("⚠️ 업로드 폴더가 없거나 비어 있음 - 물리 파일이 없는 행 검사 생략");
+      return;
+    }
+
+    boolean deleteRows = uploadConfig.isGcDanglingRowsDelete();
+    int maxPerRun = uploadConfig.getGcDanglingRowsMaxPerRun();
+    double maxMissingRatio = uploadConfig.getGcDanglingRowsMaxMissingRatio();
+    String sql = "SELECT id, file_path, stored_filename, upload_date FROM file_upload "
+        + "WHERE id > ? ORDER BY id LIMIT ?";
+    long lastId = 0;
+    int handled = 0;
+
+    while (true) {
+      List<FileUpload> batch = jdbcTemplate.query(sql, (rs, rowNum) -> {
+        FileUpload fileUpload = new FileUpload();
+        fileUpload.setId(rs.getLong("id"));
+        fileUpload.setFilePath(rs.getString("file_path"));
+        fileUpload.setStoredFilename(rs.getString("stored_filename"));
+        fileUpload.setUploadDate(rs.getTimestamp("upload_date"));
+        return fileUpload;
+      }, lastId, uploadConfig.getGcBatchSize());
+
+      if (batch.isEmpty()) {
+        return;
+      }
+      lastId = batch.get(batch.size() - 1).getId();
+
+      // 유예 기간이 지난 행 중 물리 파일이 없는 행
+      int checked = 0;
+      List<FileUpload> dangling = new ArrayList<>();
+      for (FileUpload fileUpload : batch) {
+        Timestamp uploadDate = fileUpload.getUploadDate();
+        if (uploadDate != null && uploadDate.getTime() > cutoff) {
+          continue;
+        }
+        checked++;
+        if (!fileExists(fileUpload)) {
+          dangling.add(fileUpload);
+        }
+      }
+      if (dangling.size() >= DANGLING_RATIO_MIN_ROWS && dangling.size() > checked * maxMissingRatio) {
+        System.out.println("⚠️ 물리 파일이 없는 행이 너무 많음 (" + dangling.size() + "/" + checked
+            + ") - 업로드 경로 설정을 확인하세요. 이번 실행의 행 검사 중단");
+        return;
+      }
+
+      for (FileUpload fileUpload : dangling) {
+        if (handled >= maxPerRun) {
+          System.out.println("물리 파일이 없는 행 처리 한도 도달 (" + maxPerRun + "건) - 나머지는 다음 실행에서 처리");
+          return;
+        }
+        handled++;
+        lastDanglingRowCount++;
+        if (!deleteRows) {
+          System.out.println("물리 파일이 없는 첨부파일 행 (삭제 안 함): id=" + fileUpload.getId()
+              + ", " + fileUpload.getFilePath());
+          continue;
+        }
+        if (fileUploadDAO.deleteFile(fileUpload.getId())) {
+          HotFileCache.getInstance().invalidate(fileUpload.getId());
+          deletedRowCount.incrementAndGet();
+          System.out.println("물리 파일이 없는 첨부파일 행 삭제: id=" + fileUpload.getId()
+              + ", " + fileUpload.getFilePath());
+        }
+        throttle();
+      }
+    }
+  }
+
+  // 기준 폴더가 있고 파일이 하나 이상 있는지 (썸네일 폴더 등 하위 폴더만 있는 경우도 포함)
+  private boolean hasStoredFiles(String baseDir) {
+    Path base = Paths.get(baseDir);
+    if (!Files.isDirectory(base)) {
+      return false;
+    }
+    try (Stream<Path> files = Files.walk(base)) {
+      return files.anyMatch(Files::isRegularFile);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  // 기록된 경로 또는 분산 디렉토리 경로 (이동 중인 파일)에 있는지 확인
+  private boolean fileExists(FileUpload fileUpload) {
+    return Files.exists(uploadConfig.locateStoredFile(fileUpload.getFilePath(), fileUpload.getStoredFilename()));
+  }
+
+
+  private void throttle() throws InterruptedException {
+    int maxPerSecond = uploadConfig.getGcMaxDeletesPerSecond();
+    if (maxPerSecond > 0) {
+      Thread.sleep(1000L / maxPerSecond);
+    }
+  }
+
+  private void recordReclaimed(long size) {
+    reclaimedFileCount.incrementAndGet();
+    reclaimedBytes.addAndGet(size);
+  }
+
+  private static boolean isOlderThan(Path path, long cutoff) {
+    try {
+      return Files.getLastModifiedTime(path).toMillis() < cutoff;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private static long sizeOf(Path path) {
+    try {
+      return Files.size(path);
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  public long getRunCount() {
+    return runCount.get();
+  }
+
+  public long getReclaimedFileCount() {
+    return reclaimedFileCount.get();
+  }
+
+  public long getReclaimedBytes() {
+    return reclaimedBytes.get();
+  }
+
+  public long getDeletedRowCount() {
+    return deletedRowCount.get();
+  }
+
+  public long getLastRunMillis() {
+    return lastRunMillis;
+  }
+
+  public long getLastRunDurationMillis() {
+    return lastRunDurationMillis;
+  }
+
+  // 마지막 실행에서 찾은 물리 파일이 없는 행 수 (삭제 여부와 무관)
+  public int getLastDanglingRowCount() {
+    return lastDanglingRowCount;
+  }
+}
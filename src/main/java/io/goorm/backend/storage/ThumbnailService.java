@@ -0,0 +1,232 @@
+package io.goorm.backend.storage;
+
+import io.goorm.backend.FileUpload;
+import io.goorm.backend.FileUploadDAO;
+import io.goorm.backend.config.UploadConfig;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이미지 첨부파일의 썸네일을 백그라운드에서 생성
+ * 작업 스레드 수와 대기열 크기를 제한해 업로드가 몰려도 메모리를 일정하게 유지하며,
+ * 대기열이 가득 차면 작업을 버리고 화면은 원본 이미지를 사용
+ */
+public class ThumbnailService {
+  private static ThumbnailService instance;
+
+  private static final String THUMBNAIL_SUFFIX = "_thumb.jpg";
+
+  private final UploadConfig uploadConfig;
+  private final FileUploadDAO fileUploadDAO;
+  private final ThreadPoolExecutor executor;
+
+  // 지표
+  private final AtomicLong submittedCount = new AtomicLong();
+  private final AtomicLong completedCount = new AtomicLong();
+  private final AtomicLong failedCount = new AtomicLong();
+  private final AtomicLong rejectedCount = new AtomicLong();
+
+  private ThumbnailService() {
+    this.uploadConfig = UploadConfig.getInstance();
+    this.fileUploadDAO = new FileUploadDAO();
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    int workers = uploadConfig.getThumbnailWorkers();
+    this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(uploadConfig.getThumbnailQueueSize()), r -> {
+          Thread thread = new Thread(r, "thumbnail-worker-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          thread.setPriority(Thread.MIN_PRIORITY);
+          return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  public static synchronized ThumbnailService getInstance() {
+    if (instance == null) {
+      instance = new ThumbnailService();
+    }
+    return instance;
+  }
+
+  /**
+   * DB 기록이 끝난 첨부파일 중 이미지의 썸네일 생성을 예약
+   * 같은 물리 파일은 한 번만 처리하며, 대기열이 가득 차면 건너뜀 (원본으로 표시)
+   */
+  public void submit(List<FileUpload> fileUploads) {
+    Set<String> scheduled = new HashSet<>();
+    for (FileUpload fileUpload : fileUploads) {
+      if (!uploadConfig.isImageFile(fileUpload.getOriginalFilename())
+          || !scheduled.add(fileUpload.getFilePath())) {
+        continue;
+      }
+      try {
+        executor.execute(() -> generate(fileUpload.getFilePath(), fileUpload.getStoredFilename()));
+        submittedCount.incrementAndGet();
+      } catch (RejectedExecutionException e) {
+        rejectedCount.incrementAndGet();
+        System.out.println("썸네일 대기열이 가득 차 원본 사용: " + fileUpload.getFilePath());
+      }
+    }
+  }
+
+  private void generate(String filePath, String storedFilename) {
+    try {
+      String thumbnailFilename = toThumbnailFilename(storedFilename);
+      Path thumbnailPath = uploadConfig.resolveStoragePath(uploadConfig.getThumbnailsPath(), thumbnailFilename);
+
+      // 같은 내용의 이미지는 이미 만든 썸네일을 재사용
+      // 재사용할 때는 수정 시각을 갱신해 정리 작업의 유예 기간 안에 들도록 함 (BlobStore와 같은 방식)
+      if (!touchExisting(thumbnailPath)) {
+        BufferedImage thumbnail = createThumbnail(Paths.get(filePath));
+        if (thumbnail == null) {
+          failedCount.incrementAndGet();
+          System.out.println("썸네일을 만들 수 없는 이미지 (원본 사용): " + filePath);
+          return;
+        }
+        writeJpeg(thumbnail, thumbnailPath);
+      }
+
+      fileUploadDAO.updateThumbnail(filePath, thumbnailPath.toString(),
+          uploadConfig.getThumbnailWebUrl(thumbnailFilename));
+      completedCount.incrementAndGet();
+    } catch (Exception e) {
+      failedCount.incrementAndGet();
+      System.out.println("썸네일 생성 실패: " + filePath + " - " + e.getMessage());
+    }
+  }
+
+  // 썸네일이 있으면 수정 시각을 갱신하고 true, 없으면 (그 사이 정리된 경우 포함) false
+  private static boolean touchExisting(Path thumbnailPath) throws IOException {
+    try {
+      Files.setLastModifiedTime(thumbnailPath, FileTime.fromMillis(System.currentTimeMillis()));
+      return true;
+    } catch (NoSuchFileException e) {
+      return false;
+    }
+  }
+
+  // 읽을 수 없는 형식이면 null
+  private BufferedImage createThumbnail(Path source) throws IOException {
+    int maxSize = uploadConfig.getThumbnailSize();
+
+    try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+      if (input == null) {
+        return null;
+      }
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+      if (!readers.hasNext()) {
+        return null;
+      }
+
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+
+        // 디코딩 단계에서 건너뛰며 읽어 큰 원본 전체를 메모리에 올리지 않음
+        int subsampling = Math.max(1, Math.max(width, height) / (maxSize * 2));
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        BufferedImage image = reader.read(0, param);
+
+        return resize(image, maxSize);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  // 긴 변을 maxSize에 맞춰 축소 (확대는 하지 않음), 투명 영역은 흰색으로 채움
+  private BufferedImage resize(BufferedImage image, int maxSize) {
+    double scale = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+    int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+    int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+    BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = thumbnail.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      graphics.setColor(Color.WHITE);
+      graphics.fillRect(0, 0, width, height);
+      graphics.drawImage(image, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+    return thumbnail;
+  }
+
+  // 임시 파일에 쓴 뒤 옮겨서 반쯤 쓰인 썸네일이 보이지 않도록 함
+  private void writeJpeg(BufferedImage thumbnail, Path target) throws IOException {
+    Files.createDirectories(target.getParent());
+    Path temp = Files.createTempFile(target.getParent(), "thumb", ".tmp");
+    try {
+      if (!ImageIO.write(thumbnail, "jpg", temp.toFile())) {
+        throw new IOException("JPEG 인코더를 찾을 수 없습니다.");
+      }
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private static String toThumbnailFilename(String storedFilename) {
+    int lastDotIndex = storedFilename.lastIndexOf('.');
+    String baseName = lastDotIndex > 0 ? storedFilename.substring(0, lastDotIndex) : storedFilename;
+    return baseName + THUMBNAIL_SUFFIX;
+  }
+
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  // 대기 중인 작업 수
+  public int getQueueDepth() {
+    return executor.getQueue().size();
+  }
+
+  public int getActiveCount() {
+    return executor.getActiveCount();
+  }
+
+  public long getSubmittedCount() {
+    return submittedCount.get();
+  }
+
+  public long getCompletedCount() {
+    return completedCount.get();
+  }
+
+  public long getFailedCount() {
+    return failedCount.get();
+  }
+
+  public long getRejectedCount() {
+    return rejectedCount.get();
+  }
+}
@@ -0,0 +1,183 @@
+package io.goorm.backend.storage;
+
+import io.goorm.backend.FileUpload;
+import io.goorm.backend.config.UploadConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 첨부파일별 처리(복사, 해시, 검증)를 나눠 실행하는 공용 작업 스레드 풀
+ * 요청마다 Batch를 만들어 파일을 제출하고, 모두 끝나면 결과를 한꺼번에 DB에 기록
+ * 요청 하나가 풀을 독차지하지 않도록 요청당 동시 처리 파일 수를 제한하며,
+ * 대기열이 가득 차면 요청 스레드에서 직접 처리
+ */
+public class UploadExecutor {
+  private static UploadExecutor instance;
+
+  private final UploadConfig uploadConfig;
+  private final ThreadPoolExecutor executor;
+
+  // 지표
+  private final AtomicLong submittedCount = new AtomicLong();
+  private final AtomicLong callerRunsCount = new AtomicLong();
+
+  private UploadExecutor() {
+    this.uploadConfig = UploadConfig.getInstance();
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    int workers = uploadConfig.getParallelWorkers();
+    this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(uploadConfig.getParallelQueueSize()), r -> {
+          Thread thread = new Thread(r, "upload-worker-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  public static synchronized UploadExecutor getInstance() {
+    if (instance == null) {
+      instance = new UploadExecutor();
+    }
+    return instance;
+  }
+
+  // 요청 하나의 첨부파일 묶음
+  public Batch newBatch() {
+    return new Batch(uploadConfig.getParallelPerRequest());
+  }
+
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  public int getQueueDepth() {
+    return executor.getQueue().size();
+  }
+
+  public int getActiveCount() {
+    return executor.getActiveCount();
+  }
+
+  public long getSubmittedCount() {
+    return submittedCount.get();
+  }
+
+  public long getCallerRunsCount() {
+    return callerRunsCount.get();
+  }
+
+  /**
+   * 요청 하나에서 제출한 첨부파일 작업들
+   * 허용되지 않는 파일(IllegalArgumentException)은 건너뛴 것으로 기록하고,
+   * 그 밖의 오류가 있으면 성공한 파일도 모두 정리(discard)한 뒤 예외를 던짐
+   */
+  public class Batch {
+    private final Semaphore permits;
+    private final List<Future<FileUpload>> results = new ArrayList<>();
+    private final List<String> skipped = new ArrayList<>();
+
+    private Batch(int concurrency) {
+      this.permits = new Semaphore(Math.max(1, concurrency));
+    }
+
+    /**
+     * 작업 스레드에 제출 - 동시 처리 수가 가득 차면 빈 자리가 날 때까지 대기
+     * 풀 대기열이 가득 차 제출하지 못하면 false (호출 측에서 run으로 직접 처리)
+     */
+    public boolean trySubmit(Callable<FileUpload> task) throws IOException {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("첨부파일 처리 대기 중 중단되었습니다.", e);
+      }
+      try {
+        results.add(executor.submit(() -> {
+          try {
+            return task.call();
+          } finally {
+            permits.release();
+          }
+        }));
+        submittedCount.incrementAndGet();
+        return true;
+      } catch (RejectedExecutionException e) {
+        permits.release();
+        return false;
+      }
+    }
+
+    /**
+     * 요청 스레드에서 바로 처리하고 결과를 같은 순서로 기록
+     */
+    public void run(Callable<FileUpload> task) {
+      CompletableFuture<FileUpload> result = new CompletableFuture<>();
+      try {
+        result.complete(task.call());
+      } catch (Exception e) {
+        result.completeExceptionally(e);
+      }
+      results.add(result);
+      callerRunsCount.incrementAndGet();
+    }
+
+    /**
+     * 작업 없이 건너뛴 파일 기록 (요청 스레드에서 이미 거른 파일)
+     */
+    public void skip(String reason) {
+      skipped.add(reason);
+    }
+
+    /**
+     * 모든 작업이 끝날 때까지 기다려 성공한 파일을 제출 순서대로 반환
+     */
+    public List<FileUpload> awaitAll() throws IOException {
+      List<FileUpload> stored = new ArrayList<>();
+      Exception failure = null;
+      for (Future<FileUpload> result : results) {
+        try {
+          stored.add(result.get());
+        } catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          if (cause instanceof IllegalArgumentException) {
+            skipped.add(cause.getMessage());
+          } else if (failure == null) {
+            failure = cause instanceof Exception ? (Exception) cause : new IOException(cause);
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          if (failure == null) {
+            failure = new IOException("첨부파일 처리 대기 중 중단되었습니다.", e);
+          }
+        }
+      }
+
+      if (failure != null) {
+        BlobStore.getInstance().discard(stored);
+        if (failure instanceof IOException) {
+          throw (IOException) failure;
+        }
+        throw new IOException("첨부파일 처리 중 오류가 발생했습니다: " + failure.getMessage(), failure);
+      }
+      return stored;
+    }
+
+    // 건너뛴 파일의 사유 (awaitAll 이후)
+    public List<String> getSkipped() {
+      return skipped;
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package io.goorm.backend.storage;
+
+import io.goorm.backend.FileUpload;
+import io.goorm.backend.config.DatabaseConfig;
+import io.goorm.backend.metrics.InstrumentedJdbcTemplate;
+import io.goorm.backend.config.UploadConfig;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * 기존 첨부파일을 현재 분산 디렉토리 구조로 옮기는 도구
+ * file_upload를 id 순으로 배치 조회하면서 파일을 옮기고 같은 file_path를 가진 행을 함께 갱신
+ * 서비스 중에도 실행할 수 있으며, 옮기는 동안의 다운로드는 FileDownloadCommand가 새 경로로 찾아감
+ */
+public class UploadLayoutMigrator {
+  private static final int DEFAULT_BATCH_SIZE = 500;
+  // 배치 사이 쉬는 시간 (일반 요청의 I/O와 경쟁하지 않도록)
+  private static final long BATCH_PAUSE_MILLIS = 200;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final UploadConfig uploadConfig;
+  private final BlobStore blobStore;
+  private final int batchSize;
+
+  public UploadLayoutMigrator() {
+    this(DEFAULT_BATCH_SIZE);
+  }
+
+  public UploadLayoutMigrator(int batchSize) {
+    this.jdbcTemplate = new InstrumentedJdbcTemplate(DatabaseConfig.getDataSource());
+    this.uploadConfig = UploadConfig.getInstance();
+    this.blobStore = BlobStore.getInstance();
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * 백그라운드 스레드로 이동 작업 시작
+   */
+  public void migrateAsync() {
+    Thread worker = new Thread(() -> {
+      try {
+        migrate();
+      } catch (Exception e) {
+        System.out.println("첨부파일 디렉토리 이동 실패: " + e.getMessage());
+        e.printStackTrace();
+      }
+    }, "upload-layout-migrator");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  /**
+   * 모든 첨부파일을 현재 분산 구조로 이동하고 옮긴 물리 파일 수 반환
+   */
+  public int migrate() throws Exception {
+    String sql = "SELECT id, file_path, stored_filename FROM file_upload WHERE id > ? ORDER BY id LIMIT ?";
+    long lastId = 0;
+    int moved = 0;
+    int failed = 0;
+
+    System.out.println("=== 첨부파일 디렉토리 이동 시작 (depth=" + uploadConfig.getShardDepth()
+        + ", width=" + uploadConfig.getShardWidth() + ") ===");
+
+    while (true) {
+      List<FileUpload> batch = jdbcTemplate.query(sql, (rs, rowNum) -> {
+        FileUpload fileUpload = new FileUpload();
+        fileUpload.setId(rs.getLong("id"));
+        fileUpload.setFilePath(rs.getString("file_path"));
+        fileUpload.setStoredFilename(rs.getString("stored_filename"));
+        return fileUpload;
+      }, lastId, batchSize);
+
+      if (batch.isEmpty()) {
+        break;
+      }
+
+      for (FileUpload fileUpload : batch) {
+        lastId = fileUpload.getId();
+        try {
+          if (migrateFile(fileUpload)) {
+            moved++;
+          }
+        } catch (Exception e) {
+          // 한 파일이 실패해도 나머지는 계속 (다음 실행에서 다시 시도)
+          failed++;
+          System.out.println("파일 이동 실패: " + fileUpload.getFilePath() + " - " + e.getMessage());
+        }
+      }
+
+      Thread.sleep(BATCH_PAUSE_MILLIS);
+    }
+
+    System.out.println("=== 첨부파일 디렉토리 이동 완료 - 이동 " + moved + "개, 실패 " + failed + "개 ===");
+    return moved;
+  }
+
+  private boolean migrateFile(FileUpload fileUpload) throws Exception {
+    String oldPath = fileUpload.getFilePath();
+    Path current = Paths.get(oldPath).normalize();
+
+    // 파일이 속한 업로드 폴더 확인 (이미지/일반 파일)
+    boolean isImage = current.startsWith(Paths.get(uploadConfig.getImagesPath()).normalize());
+    boolean isFile = current.startsWith(Paths.get(uploadConfig.getFilesPath()).normalize());
+    if (!isImage && !isFile) {
+      System.out.println("업로드 폴더 밖의 파일은 건너뜀: " + oldPath);
+      return false;
+    }
+
+    String baseDir = isImage ? uploadConfig.getImagesPath() : uploadConfig.getFilesPath();
+    Path target = uploadConfig.resolveStoragePath(baseDir, fileUpload.getStoredFilename());
+    if (target.normalize().equals(current)) {
+      return false; // 이미 현재 구조 (같은 파일을 공유하는 행도 함께 갱신되어 있음)
+    }
+
+    String newPath = target.toString();
+    blobStore.relocate(oldPath, target, () -> {
+      if (isImage) {
+        String webUrl = uploadConfig.getImageWebUrl(fileUpload.getStoredFilename());
+        jdbcTemplate.update("UPDATE file_upload SET file_path = ?, web_url = ? WHERE file_path = ?",
+            newPath, webUrl, oldPath);
+      } else {
+        jdbcTemplate.update("UPDATE file_upload SET file_path = ? WHERE file_path = ?", newPath, oldPath);
+      }
+    });
+    return true;
+  }
+
+  /**
+   * 명령줄 실행: java io.goorm.backend.storage.UploadLayoutMigrator [배치 크기]
+   */
+  public static void main(String[] args) throws Exception {
+    int batchSize = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BATCH_SIZE;
+    try {
+      new UploadLayoutMigrator(batchSize).migrate();
+    } finally {
+      DatabaseConfig.shutdown();
+    }
+  }
+}
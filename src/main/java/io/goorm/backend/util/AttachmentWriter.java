@@ -0,0 +1,86 @@
+package io.goorm.backend.util;
+
+import io.goorm.backend.FileUpload;
+import io.goorm.backend.config.UploadConfig;
+import io.goorm.backend.storage.BlobStore;
+import io.goorm.backend.storage.ThumbnailService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 업로드 스트림을 첨부파일 저장소에 기록
+ * 고정 크기 버퍼로 한 번만 복사하며, 크기 제한은 복사 중에 확인
+ * 같은 내용의 파일은 BlobStore가 물리 파일 하나로 합쳐서 저장
+ */
+public class AttachmentWriter {
+  private UploadConfig uploadConfig;
+  private UploadValidator uploadValidator;
+  private BlobStore blobStore;
+
+  public AttachmentWriter() {
+    this.uploadConfig = UploadConfig.getInstance();
+    this.uploadValidator = new UploadValidator();
+    this.blobStore = BlobStore.getInstance();
+  }
+
+  /**
+   * 파일 하나를 저장하고 DB에 기록할 정보를 반환 (boardId는 호출 측에서 설정)
+   * 허용되지 않는 확장자나 크기 초과면 IllegalArgumentException
+   */
+  public FileUpload write(String originalFilename, String contentType, InputStream content) throws IOException {
+    if (!uploadValidator.isValidFileExtension(originalFilename)) {
+      throw new IllegalArgumentException("허용되지 않는 파일입니다: " + originalFilename);
+    }
+
+    long maxSize = uploadConfig.isImageFile(originalFilename)
+        ? uploadConfig.getMaxImageSize() : uploadConfig.getMaxFileSize();
+    FileUpload fileUpload = blobStore.store(originalFilename, contentType,
+        uploadValidator.validatingContent(originalFilename, content), maxSize);
+    fileUpload.setFileType(fileUpload.getContentType());
+    return fileUpload;
+  }
+
+  /**
+   * 파트 내용을 임시 파일로 받음 (요청 스레드에서 네트워크 속도로 읽는 단계)
+   * 받으면서 해시와 크기를 계산하므로 작업 스레드는 파일을 다시 읽지 않음
+   * 확장자, 크기 제한, 파일 형식은 받으면서 확인하고 실패하면 임시 파일은 삭제
+   * 허용되지 않는 확장자나 크기 초과면 IllegalArgumentException
+   */
+  public BlobStore.Spooled receive(String originalFilename, InputStream content) throws IOException {
+    if (!uploadValidator.isValidFileExtension(originalFilename)) {
+      throw new IllegalArgumentException("허용되지 않는 파일입니다: " + originalFilename);
+    }
+
+    long maxSize = uploadConfig.isImageFile(originalFilename)
+        ? uploadConfig.getMaxImageSize() : uploadConfig.getMaxFileSize();
+    // 파트 스트림은 파서 소유이므로 닫지 않음
+    return blobStore.spool(originalFilename, uploadValidator.validatingContent(originalFilename, content), maxSize);
+  }
+
+  /**
+   * receive로 받은 임시 파일을 저장소로 옮기고 DB에 기록할 정보를 반환 (작업 스레드에서 중복 확인과 배치)
+   */
+  public FileUpload store(String originalFilename, String contentType, BlobStore.Spooled received)
+      throws IOException {
+    FileUpload fileUpload = blobStore.place(originalFilename, contentType, received);
+    fileUpload.setFileType(fileUpload.getContentType());
+    return fileUpload;
+  }
+
+  /**
+   * DB 기록이 끝난 파일 확정 - 이미지는 썸네일 생성 예약
+   */
+  public void confirmStoredFiles(List<FileUpload> fileUploads) {
+    blobStore.commit(fileUploads);
+    ThumbnailService.getInstance().submit(fileUploads);
+  }
+
+  /**
+   * 저장했던 파일 정리 (DB 저장 실패 시 롤백용) - 다른 게시글이 같은 파일을 쓰고 있으면 남겨둠
+   */
+  public void deleteStoredFiles(List<FileUpload> fileUploads) {
+    blobStore.discard(fileUploads);
+  }
+}
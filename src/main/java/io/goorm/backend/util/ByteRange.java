@@ -0,0 +1,113 @@
+package io.goorm.backend.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * HTTP Range 헤더의 바이트 구간 하나 (start, end 모두 포함)
+ */
+public class ByteRange {
+  // 이보다 많은 구간을 요청하면 Range를 무시하고 전체 전송
+  private static final int MAX_RANGES = 16;
+
+  private final long start;
+  private final long end;
+
+  public ByteRange(long start, long end) {
+    this.start = start;
+    this.end = end;
+  }
+
+  /**
+   * "bytes=0-99,200-,-500" 형식 파싱
+   * 형식이 잘못되었거나 구간이 너무 많으면 null (Range 무시),
+   * 만족 가능한 구간이 하나도 없으면 빈 목록 (416 응답)
+   */
+  public static List<ByteRange> parse(String header, long length) {
+    if (header == null || !header.startsWith("bytes=")) {
+      return null;
+    }
+
+    String[] specs = header.substring("bytes=".length()).split(",");
+    if (specs.length > MAX_RANGES) {
+      return null;
+    }
+
+    List<ByteRange> ranges = new ArrayList<>();
+    for (String spec : specs) {
+      spec = spec.trim();
+      int dash = spec.indexOf('-');
+      if (dash < 0) {
+        return null;
+      }
+
+      try {
+        String first = spec.substring(0, dash).trim();
+        String last = spec.substring(dash + 1).trim();
+
+        if (first.isEmpty()) {
+          // 접미 구간: 마지막 N 바이트
+          long suffix = Long.parseLong(last);
+          if (suffix <= 0 || length == 0) {
+            continue;
+          }
+          ranges.add(new ByteRange(Math.max(0, length - suffix), length - 1));
+        } else {
+          long start = Long.parseLong(first);
+          long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+          if (start < 0 || end < start) {
+            return null;
+          }
+          if (start >= length) {
+            continue; // 파일 범위를 벗어난 구간
+          }
+          ranges.add(new ByteRange(start, Math.min(end, length - 1)));
+        }
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    return merge(ranges);
+  }
+
+  // 겹치거나 맞닿은 구간은 하나로 합침
+  private static List<ByteRange> merge(List<ByteRange> ranges) {
+    if (ranges.size() < 2) {
+      return ranges;
+    }
+    List<ByteRange> sorted = new ArrayList<>(ranges);
+    Collections.sort(sorted, (a, b) -> Long.compare(a.start, b.start));
+
+    List<ByteRange> merged = new ArrayList<>();
+    ByteRange current = sorted.get(0);
+    for (int i = 1; i < sorted.size(); i++) {
+      ByteRange next = sorted.get(i);
+      if (next.start <= current.end + 1) {
+        current = new ByteRange(current.start, Math.max(current.end, next.end));
+      } else {
+        merged.add(current);
+        current = next;
+      }
+    }
+    merged.add(current);
+    return merged;
+  }
+
+  public long getStart() {
+    return start;
+  }
+
+  public long getEnd() {
+    return end;
+  }
+
+  public long getLength() {
+    return end - start + 1;
+  }
+
+  // Content-Range 헤더 값
+  public String toContentRange(long totalLength) {
+    return "bytes " + start + "-" + end + "/" + totalLength;
+  }
+}
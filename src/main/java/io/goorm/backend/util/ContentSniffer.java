@@ -0,0 +1,203 @@
+package io.goorm.backend.util;
+
+import io.goorm.backend.config.UploadConfig;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파일 앞부분 바이트(매직 넘버)로 실제 형식이 확장자와 맞는지 확인
+ * 업로드 스트림을 감싸 처음 몇 바이트를 미리 읽어 검사하므로, 저장 중인 파일을 다시 읽지 않고
+ * 형식이 다르면 디스크에 쓰기 전에 중단됨
+ */
+public class ContentSniffer {
+  private static ContentSniffer instance;
+
+  // 텍스트 판별에 사용할 앞부분 크기
+  private static final int TEXT_SNIFF_SIZE = 512;
+  // 텍스트로 볼 수 있는 제어 문자 비율 상한
+  private static final double MAX_CONTROL_RATIO = 0.05;
+  private static final String TEXT = "text";
+
+  // 확장자 -> 허용 시그니처 목록 (null 바이트 위치는 아무 값)
+  private final Map<String, List<Integer[]>> signatures = new HashMap<>();
+  private final Map<String, Boolean> textExtensions = new HashMap<>();
+  private final int sniffSize;
+
+  private ContentSniffer() {
+    int longest = 0;
+    for (Map.Entry<String, String> entry : UploadConfig.getInstance().getContentSignatures().entrySet()) {
+      List<Integer[]> patterns = new ArrayList<>();
+      for (String pattern : entry.getValue().split(",")) {
+        pattern = pattern.trim();
+        if (TEXT.equalsIgnoreCase(pattern)) {
+          textExtensions.put(entry.getKey(), Boolean.TRUE);
+          longest = Math.max(longest, TEXT_SNIFF_SIZE);
+        } else if (!pattern.isEmpty()) {
+          Integer[] bytes = parsePattern(pattern);
+          patterns.add(bytes);
+          longest = Math.max(longest, bytes.length);
+        }
+      }
+      signatures.put(entry.getKey(), patterns);
+    }
+    this.sniffSize = longest;
+  }
+
+  public static synchronized ContentSniffer getInstance() {
+    if (instance == null) {
+      instance = new ContentSniffer();
+    }
+    return instance;
+  }
+
+  /**
+   * 앞부분 바이트가 확장자의 시그니처와 맞는지 확인
+   * head는 파일 앞부분 (파일이 짧으면 length가 시그니처보다 짧을 수 있음)
+   * 시그니처가 설정되지 않은 확장자는 통과
+   */
+  public boolean matches(String filename, byte[] head, int length) {
+    String extension = FileUtils.getFileExtension(filename).toLowerCase();
+    List<Integer[]> patterns = signatures.get(extension);
+    if (patterns == null) {
+      return true;
+    }
+    for (Integer[] pattern : patterns) {
+      if (startsWith(head, length, pattern)) {
+        return true;
+      }
+    }
+    return textExtensions.containsKey(extension) && isText(head, length);
+  }
+
+  /**
+   * 업로드 스트림을 감싸 처음 읽을 때 앞부분을 검사
+   * 형식이 맞지 않으면 첫 read에서 IllegalArgumentException (저장된 바이트 없음)
+   */
+  public InputStream wrap(String filename, InputStream content) {
+    return new SniffingInputStream(filename, content);
+  }
+
+  private static boolean startsWith(byte[] head, int length, Integer[] pattern) {
+    if (length < pattern.length) {
+      return false;
+    }
+    for (int i = 0; i < pattern.length; i++) {
+      if (pattern[i] != null && (head[i] & 0xff) != pattern[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // NUL이 없고 제어 문자가 드문 경우 텍스트로 판단 (UTF-8 멀티바이트는 그대로 허용)
+  private static boolean isText(byte[] head, int length) {
+    // UTF-16 BOM (NUL이 섞여 있으므로 먼저 확인)
+    if (length >= 2 && ((head[0] == (byte) 0xFF && head[1] == (byte) 0xFE)
+        || (head[0] == (byte) 0xFE && head[1] == (byte) 0xFF))) {
+      return true;
+    }
+    int control = 0;
+    for (int i = 0; i < length; i++) {
+      int b = head[i] & 0xff;
+      if (b == 0) {
+        return false;
+      }
+      if (b < 0x20 && b != '\t' && b != '\n' && b != '\r' && b != '\f' && b != 0x1b) {
+        control++;
+      }
+    }
+    return control <= length * MAX_CONTROL_RATIO;
+  }
+
+  // "FFD8FF", "52494646????????57454250" 형식
+  private static Integer[] parsePattern(String pattern) {
+    if (pattern.length() % 2 != 0) {
+      throw new IllegalArgumentException("잘못된 파일 시그니처 형식입니다: " + pattern);
+    }
+    Integer[] bytes = new Integer[pattern.length() / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      String hex = pattern.substring(i * 2, i * 2 + 2);
+      bytes[i] = "??".equals(hex) ? null : Integer.parseInt(hex, 16);
+    }
+    return bytes;
+  }
+
+  /**
+   * 처음 read 때 시그니처 길이만큼 미리 읽어 검사한 뒤, 미리 읽은 바이트부터 그대로 전달
+   */
+  private class SniffingInputStream extends FilterInputStream {
+    private final String filename;
+    private byte[] head;
+    private int headLength;
+    private int headPosition;
+    private boolean checked;
+
+    SniffingInputStream(String filename, InputStream content) {
+      super(content);
+      this.filename = filename;
+    }
+
+    private void checkHead() throws IOException {
+      if (checked) {
+        return;
+      }
+      checked = true;
+      head = new byte[sniffSize];
+      while (headLength < head.length) {
+        int n = in.read(head, headLength, head.length - headLength);
+        if (n == -1) {
+          break;
+        }
+        headLength += n;
+      }
+      if (!matches(filename, head, headLength)) {
+        throw new IllegalArgumentException("파일 내용이 확장자와 맞지 않습니다: " + filename);
+      }
+    }
+
+    @Override
+    public int read() throws IOException {
+      checkHead();
+      if (headPosition < headLength) {
+        return head[headPosition++] & 0xff;
+      }
+      return in.read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      checkHead();
+      if (len == 0) {
+        return 0;
+      }
+      if (headPosition < headLength) {
+        int n = Math.min(len, headLength - headPosition);
+        System.arraycopy(head, headPosition, b, off, n);
+        headPosition += n;
+        return n;
+      }
+      return in.read(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      throw new IOException("skip은 지원하지 않습니다.");
+    }
+
+    @Override
+    public int available() throws IOException {
+      return (headLength - headPosition) + in.available();
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+  }
+}
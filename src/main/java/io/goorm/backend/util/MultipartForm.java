@@ -0,0 +1,99 @@
+package io.goorm.backend.util;
+
+import io.goorm.backend.FileUpload;
+import io.goorm.backend.config.UploadConfig;
+import io.goorm.backend.storage.BlobStore;
+import io.goorm.backend.storage.UploadExecutor;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * 게시글 작성/수정 폼 (multipart) 파싱 결과
+ * 본문을 한 번만 읽으면서 텍스트 필드는 문자열로, "files" 파트는 업로드 폴더에 바로 저장
+ * 요청 스레드는 파트를 임시 파일로 받으면서 해시까지 계산하고 (내용은 한 번만 읽음),
+ * 작업 스레드에는 중복 확인과 저장소 배치(이름 변경)만 넘김
+ * 느린 클라이언트를 기다리는 것은 그 요청 스레드뿐이라 공용 작업 스레드를 점유하지 않음
+ */
+public class MultipartForm {
+  // FrontController의 @MultipartConfig와 같은 제한
+  private static final long MAX_REQUEST_SIZE = 52428800; // 50MB
+  private static final int MAX_FIELD_SIZE = 1048576; // 1MB
+
+  private final Map<String, String> fields = new HashMap<>();
+  private final List<FileUpload> attachments = new ArrayList<>();
+
+  private MultipartForm() {
+  }
+
+  /**
+   * 요청 본문을 파싱 - 파싱 도중 실패하면 이미 저장한 파일은 삭제
+   * 허용되지 않는 파일은 건너뛰고 나머지 파트는 계속 처리
+   */
+  public static MultipartForm parse(HttpServletRequest request, AttachmentWriter writer) throws IOException {
+    MultipartForm form = new MultipartForm();
+    int bufferSize = UploadConfig.getInstance().getBufferSize();
+    MultipartStreamParser parser = MultipartStreamParser.forRequest(request, bufferSize, MAX_REQUEST_SIZE,
+        MAX_FIELD_SIZE);
+    UploadExecutor.Batch batch = UploadExecutor.getInstance().newBatch();
+
+    try {
+      parser.parse(new MultipartStreamParser.PartHandler() {
+        @Override
+        public void field(String name, String value) {
+          form.fields.putIfAbsent(name, value);
+        }
+
+        @Override
+        public void file(String name, String filename, String contentType, InputStream content) throws IOException {
+          if (!"files".equals(name) || filename.trim().isEmpty()) {
+            return; // 파일을 선택하지 않은 빈 파트
+          }
+          BlobStore.Spooled received;
+          try {
+            received = writer.receive(filename, content);
+          } catch (IllegalArgumentException e) {
+            batch.skip(e.getMessage()); // 남은 내용은 파서가 읽어서 버림
+            return;
+          }
+          Callable<FileUpload> task = () -> writer.store(filename, contentType, received);
+          if (!batch.trySubmit(task)) {
+            // 작업 스레드가 모두 바쁘면 요청 스레드에서 바로 처리
+            batch.run(task);
+          }
+        }
+      });
+    } catch (IOException | RuntimeException e) {
+      // 진행 중인 파일 작업이 끝나길 기다린 뒤 저장된 파일 정리
+      try {
+        BlobStore.getInstance().discard(batch.awaitAll());
+      } catch (IOException ignored) {
+        // awaitAll이 이미 정리함
+      }
+      throw e;
+    }
+
+    form.attachments.addAll(batch.awaitAll());
+    for (String reason : batch.getSkipped()) {
+      System.out.println("첨부파일 건너뜀: " + reason);
+    }
+
+    System.out.println("multipart 파싱 완료 - 필드 " + form.fields.size() + "개, 첨부파일 "
+        + form.attachments.size() + "개, " + parser.getTotalRead() + " bytes");
+    return form;
+  }
+
+  public String getField(String name) {
+    return fields.get(name);
+  }
+
+  public List<FileUpload> getAttachments() {
+    return attachments;
+  }
+}
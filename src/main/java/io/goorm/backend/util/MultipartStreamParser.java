@@ -0,0 +1,387 @@
+package io.goorm.backend.util;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * multipart/form-data 본문을 한 번만 읽는 스트리밍 파서
+ * - 컨테이너의 getParts()처럼 파일을 임시 파일로 먼저 내려받지 않음
+ * - 텍스트 필드는 바로 문자열로 디코딩 (줄바꿈 유지)
+ * - 파일 파트는 고정 크기 버퍼를 거쳐 핸들러가 받은 InputStream으로 흘려보냄
+ *
+ * 주의: 요청 본문을 직접 읽으므로 파싱 전에 request.getParameter()/getParts()를
+ * 호출하면 안 됨 (컨테이너가 본문을 먼저 소비함). 쿼리스트링 값은 queryParameter() 사용.
+ */
+public class MultipartStreamParser {
+
+  /**
+   * 파트별 처리 콜백
+   */
+  public interface PartHandler {
+    // 일반 폼 필드
+    void field(String name, String value) throws IOException;
+
+    // 파일 파트 - content는 이 파트의 끝에서 -1을 반환, 다 읽지 않아도 파서가 나머지를 버림
+    void file(String name, String filename, String contentType, InputStream content) throws IOException;
+  }
+
+  private static final byte CR = '\r';
+  private static final byte LF = '\n';
+  private static final int MAX_HEADER_LINE = 8192;
+
+  private final InputStream in;
+  private final byte[] delimiter; // CRLF + "--" + boundary
+  private final byte[] buffer;
+  private final long maxRequestSize;
+  private final int maxFieldSize;
+  private final Charset charset;
+
+  private int pos;
+  private int limit;
+  private boolean eof;
+  private long totalRead;
+
+  public MultipartStreamParser(InputStream in, String boundary, Charset charset, int bufferSize,
+      long maxRequestSize, int maxFieldSize) {
+    this.in = in;
+    this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+    // 경계 문자열이 버퍼 경계에 걸쳐도 찾을 수 있도록 최소 크기 보장
+    this.buffer = new byte[Math.max(bufferSize, delimiter.length * 4)];
+    this.charset = charset;
+    this.maxRequestSize = maxRequestSize;
+    this.maxFieldSize = maxFieldSize;
+  }
+
+  /**
+   * 요청 헤더에서 boundary를 읽어 파서 생성
+   */
+  public static MultipartStreamParser forRequest(HttpServletRequest request, int bufferSize,
+      long maxRequestSize, int maxFieldSize) throws IOException {
+    String boundary = getBoundary(request.getContentType());
+    if (boundary == null) {
+      throw new IOException("multipart boundary가 없습니다: " + request.getContentType());
+    }
+    long contentLength = request.getContentLengthLong();
+    if (maxRequestSize > 0 && contentLength > maxRequestSize) {
+      throw new IOException("요청 크기 제한 초과: " + contentLength + " bytes");
+    }
+    String encoding = request.getCharacterEncoding();
+    Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+    return new MultipartStreamParser(request.getInputStream(), boundary, charset, bufferSize,
+        maxRequestSize, maxFieldSize);
+  }
+
+  public static boolean isMultipart(HttpServletRequest request) {
+    String contentType = request.getContentType();
+    return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data");
+  }
+
+  /**
+   * 요청 본문을 읽지 않고 쿼리스트링에서만 파라미터 값 조회
+   * (multipart 요청에서 getParameter()를 쓰면 컨테이너가 본문 전체를 파싱함)
+   */
+  public static String queryParameter(HttpServletRequest request, String name) {
+    String query = request.getQueryString();
+    if (query == null) {
+      return null;
+    }
+    for (String pair : query.split("&")) {
+      int eq = pair.indexOf('=');
+      String key = eq >= 0 ? pair.substring(0, eq) : pair;
+      if (key.equals(name)) {
+        String value = eq >= 0 ? pair.substring(eq + 1) : "";
+        try {
+          return URLDecoder.decode(value, "UTF-8");
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+          return value;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 본문 전체를 순서대로 한 번 읽으며 파트마다 핸들러 호출
+   */
+  public void parse(PartHandler handler) throws IOException {
+    // 첫 경계 전까지(preamble) 건너뜀 - 첫 경계 앞에는 CRLF가 없을 수 있음
+    byte[] firstBoundary = new byte[delimiter.length - 2];
+    System.arraycopy(delimiter, 2, firstBoundary, 0, firstBoundary.length);
+    if (!skipPast(firstBoundary)) {
+      throw new IOException("multipart 경계를 찾을 수 없습니다.");
+    }
+
+    while (readBoundaryTail()) {
+      Map<String, String> headers = readHeaders();
+      String disposition = headers.getOrDefault("content-disposition", "");
+      Map<String, String> params = parseDisposition(disposition);
+      String name = params.get("name");
+      String filename = params.get("filename");
+
+      PartInputStream content = new PartInputStream();
+      if (filename == null) {
+        handler.field(name, readField(content));
+      } else {
+        String contentType = headers.get("content-type");
+        handler.file(name, stripPath(filename), contentType, content);
+      }
+      // 핸들러가 다 읽지 않았으면 이 파트의 나머지를 버림
+      content.drain();
+    }
+  }
+
+  public long getTotalRead() {
+    return totalRead;
+  }
+
+  private String readField(PartInputStream content) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] chunk = new byte[1024];
+    int n;
+    while ((n = content.read(chunk, 0, chunk.length)) != -1) {
+      if (out.size() + n > maxFieldSize) {
+        throw new IOException("폼 필드 크기 제한 초과: " + maxFieldSize + " bytes");
+      }
+      out.write(chunk, 0, n);
+    }
+    return new String(out.toByteArray(), charset);
+  }
+
+  // 경계 바로 뒤: "--"면 본문 끝, CRLF면 다음 파트 시작
+  private boolean readBoundaryTail() throws IOException {
+    fill(2);
+    if (limit - pos >= 2 && buffer[pos] == '-' && buffer[pos + 1] == '-') {
+      pos += 2;
+      return false;
+    }
+    // 경계 뒤 공백(transport padding) 허용
+    while (true) {
+      fill(1);
+      if (pos >= limit) {
+        throw new IOException("multipart 본문이 중간에 끝났습니다.");
+      }
+      if (buffer[pos] == ' ' || buffer[pos] == '\t') {
+        pos++;
+      } else {
+        break;
+      }
+    }
+    fill(2);
+    if (limit - pos < 2 || buffer[pos] != CR || buffer[pos + 1] != LF) {
+      throw new IOException("잘못된 multipart 경계 형식입니다.");
+    }
+    pos += 2;
+    return true;
+  }
+
+  private Map<String, String> readHeaders() throws IOException {
+    Map<String, String> headers = new HashMap<>();
+    String line;
+    while (!(line = readLine()).isEmpty()) {
+      int colon = line.indexOf(':');
+      if (colon > 0) {
+        headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+      }
+    }
+    return headers;
+  }
+
+  private String readLine() throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream();
+    while (true) {
+      fill(2);
+      if (limit - pos < 2) {
+        throw new IOException("multipart 헤더가 중간에 끝났습니다.");
+      }
+      if (buffer[pos] == CR && buffer[pos + 1] == LF) {
+        pos += 2;
+        // 파트 헤더의 파일명은 브라우저가 UTF-8 그대로 보냄
+        return new String(line.toByteArray(), charset);
+      }
+      line.write(buffer[pos++]);
+      if (line.size() > MAX_HEADER_LINE) {
+        throw new IOException("multipart 헤더가 너무 깁니다.");
+      }
+    }
+  }
+
+  // pattern 바로 뒤까지 읽어 넘김 - 찾지 못하면 false
+  private boolean skipPast(byte[] pattern) throws IOException {
+    while (true) {
+      fill(pattern.length);
+      int idx = indexOf(pattern, pos, limit);
+      if (idx >= 0) {
+        pos = idx + pattern.length;
+        return true;
+      }
+      if (eof) {
+        return false;
+      }
+      // 패턴 일부가 버퍼 끝에 걸쳐 있을 수 있으므로 그만큼 남김
+      pos = Math.max(pos, limit - pattern.length + 1);
+    }
+  }
+
+  // 버퍼에 최소 min 바이트가 있도록 채움 (본문 끝이면 그보다 적을 수 있음)
+  private void fill(int min) throws IOException {
+    if (limit - pos >= min || eof) {
+      return;
+    }
+    if (pos > 0) {
+      System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+      limit -= pos;
+      pos = 0;
+    }
+    while (limit < min && !eof) {
+      int n = in.read(buffer, limit, buffer.length - limit);
+      if (n == -1) {
+        eof = true;
+      } else {
+        limit += n;
+        totalRead += n;
+        if (maxRequestSize > 0 && totalRead > maxRequestSize) {
+          throw new IOException("요청 크기 제한 초과: " + maxRequestSize + " bytes");
+        }
+      }
+    }
+  }
+
+  private int indexOf(byte[] pattern, int from, int to) {
+    byte first = pattern[0];
+    int last = to - pattern.length;
+    outer: for (int i = from; i <= last; i++) {
+      if (buffer[i] != first) {
+        continue;
+      }
+      for (int j = 1; j < pattern.length; j++) {
+        if (buffer[i + j] != pattern[j]) {
+          continue outer;
+        }
+      }
+      return i;
+    }
+    return -1;
+  }
+
+  // Content-Disposition의 name/filename 값 추출 (따옴표 안의 ; 는 구분자로 보지 않음)
+  private static Map<String, String> parseDisposition(String disposition) {
+    Map<String, String> params = new HashMap<>();
+    int i = disposition.indexOf(';');
+    while (i >= 0 && i < disposition.length()) {
+      int eq = disposition.indexOf('=', i);
+      if (eq < 0) {
+        break;
+      }
+      String key = disposition.substring(i + 1, eq).trim().toLowerCase(Locale.ROOT);
+      int start = eq + 1;
+      String value;
+      int next;
+      if (start < disposition.length() && disposition.charAt(start) == '"') {
+        StringBuilder sb = new StringBuilder();
+        int j = start + 1;
+        while (j < disposition.length() && disposition.charAt(j) != '"') {
+          char c = disposition.charAt(j);
+          if (c == '\\' && j + 1 < disposition.length()) {
+            c = disposition.charAt(++j);
+          }
+          sb.append(c);
+          j++;
+        }
+        value = sb.toString();
+        next = disposition.indexOf(';', j);
+      } else {
+        next = disposition.indexOf(';', start);
+        value = (next >= 0 ? disposition.substring(start, next) : disposition.substring(start)).trim();
+      }
+      params.put(key, value);
+      i = next;
+    }
+    return params;
+  }
+
+  // 일부 브라우저는 전체 경로를 보내므로 파일명만 남김
+  private static String stripPath(String filename) {
+    int slash = Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\'));
+    return slash >= 0 ? filename.substring(slash + 1) : filename;
+  }
+
+  static String getBoundary(String contentType) {
+    if (contentType == null) {
+      return null;
+    }
+    for (String token : contentType.split(";")) {
+      String trimmed = token.trim();
+      if (trimmed.toLowerCase(Locale.ROOT).startsWith("boundary=")) {
+        String boundary = trimmed.substring("boundary=".length());
+        if (boundary.length() >= 2 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+          boundary = boundary.substring(1, boundary.length() - 1);
+        }
+        return boundary.isEmpty() ? null : boundary;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 현재 파트의 본문만 읽는 스트림 - 다음 경계를 만나면 -1 반환
+   */
+  private class PartInputStream extends InputStream {
+    private boolean done;
+
+    @Override
+    public int read() throws IOException {
+      byte[] one = new byte[1];
+      int n = read(one, 0, 1);
+      return n == -1 ? -1 : one[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (done) {
+        return -1;
+      }
+      if (len == 0) {
+        return 0;
+      }
+      fill(delimiter.length);
+      int idx = indexOf(delimiter, pos, limit);
+      if (idx == pos) {
+        // 경계 도달 - 이 파트 끝
+        pos += delimiter.length;
+        done = true;
+        return -1;
+      }
+
+      int safeEnd;
+      if (idx >= 0) {
+        safeEnd = idx;
+      } else if (eof) {
+        throw new IOException("multipart 본문이 중간에 끝났습니다.");
+      } else {
+        // 경계 일부가 버퍼 끝에 걸쳐 있을 수 있으므로 그만큼은 아직 내보내지 않음
+        safeEnd = limit - delimiter.length + 1;
+      }
+
+      int n = Math.min(len, safeEnd - pos);
+      System.arraycopy(buffer, pos, b, off, n);
+      pos += n;
+      return n;
+    }
+
+    void drain() throws IOException {
+      byte[] skip = new byte[1024];
+      while (read(skip, 0, skip.length) != -1) {
+        // 버림
+      }
+    }
+  }
+}
@@ -2,6 +2,7 @@ package io.goorm.backend.util;
 
 import io.goorm.backend.config.UploadConfig;
 import javax.servlet.http.Part;
+import java.io.InputStream;
 
 public class UploadValidator {
   private UploadConfig uploadConfig;
@@ -35,6 +36,12 @@ public class UploadValidator {
     }
   }
 
+  // 내용 검증 - 업로드 스트림을 감싸 앞부분 바이트가 확장자의 시그니처와 맞는지 저장 중에 확인
+  // (맞지 않으면 첫 read에서 IllegalArgumentException)
+  public InputStream validatingContent(String filename, InputStream content) {
+    return ContentSniffer.getInstance().wrap(filename, content);
+  }
+
   // 전체 파일 검증
   public boolean isValidFile(Part part, String filename) {
     return isValidFileExtension(filename) &&
@@ -0,0 +1,6 @@
+-- 기존 file_upload 테이블에 내용 해시 컬럼 추가 (중복 제거 저장소)
+-- 같은 물리 파일을 참조하는 행 수를 세기 위해 file_path 인덱스도 추가
+ALTER TABLE file_upload ADD COLUMN IF NOT EXISTS content_hash CHAR(64);
+CREATE INDEX IF NOT EXISTS idx_file_path ON file_upload(file_path);
+
+COMMENT ON COLUMN file_upload.content_hash IS '파일 내용 SHA-256 (중복 제거용)';
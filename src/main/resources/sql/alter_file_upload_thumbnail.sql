@@ -0,0 +1,7 @@
+-- 기존 file_upload 테이블에 썸네일 컬럼 추가
+-- 썸네일이 만들어지기 전(또는 만들 수 없는 이미지)에는 NULL이며 화면에서는 원본을 사용
+ALTER TABLE file_upload ADD COLUMN IF NOT EXISTS thumbnail_path VARCHAR(500);
+ALTER TABLE file_upload ADD COLUMN IF NOT EXISTS thumbnail_url VARCHAR(500);
+
+COMMENT ON COLUMN file_upload.thumbnail_path IS '썸네일 물리 경로';
+COMMENT ON COLUMN file_upload.thumbnail_url IS '썸네일 웹 URL (없으면 원본 사용)';
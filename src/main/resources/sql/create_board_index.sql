@@ -0,0 +1,3 @@
+-- 게시글 목록 키셋 페이지네이션용 복합 인덱스
+-- ORDER BY created_at DESC, id DESC 와 "(created_at, id) 이후" 조건을 인덱스 탐색으로 처리
+CREATE INDEX IF NOT EXISTS idx_board_created_at_id ON board(created_at DESC, id DESC);
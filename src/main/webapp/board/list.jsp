@@ -179,6 +179,16 @@
             </div>
         </c:if>
         
+        <!-- 키셋(커서) 페이지네이션 UI -->
+        <c:if test="${not empty nextCursor}">
+            <div class="mt-6 flex justify-end">
+                <a href="front?command=boardList&cursor=${nextCursor}&searchType=${searchType}&searchKeyword=${searchKeyword}"
+                   class="px-3 py-2 text-sm font-medium text-gray-500 bg-white border border-gray-300 rounded-md hover:bg-gray-50 transition-colors">
+                    다음
+                </a>
+            </div>
+        </c:if>
+        
         <div class="mt-6 text-sm text-gray-600">
             <p>Model 2 아키텍처 - Servlet + JSP + JSTL</p>
             <p>특징: Servlet이 컨트롤러 역할, JSP는 뷰 역할, JSTL로 출력 로직 단순화</p>
@@ -104,7 +104,13 @@
                     <!-- 첨부파일 표시 -->
                     <c:if test="${not empty board.attachments and board.attachments.size() > 0}">
                         <div>
-                            <label class="block text-sm font-medium text-gray-700 mb-2">첨부파일</label>
+                            <div class="flex items-center justify-between mb-2">
+                                <label class="block text-sm font-medium text-gray-700">첨부파일</label>
+                                <c:if test="${board.attachments.size() > 1}">
+                                    <a href="front?command=fileZipDownload&boardId=${board.id}"
+                                       class="text-blue-600 hover:text-blue-800 text-xs">전체 다운로드 (ZIP)</a>
+                                </c:if>
+                            </div>
                             <div class="space-y-2">
                                 <c:forEach var="file" items="${board.attachments}">
                                     <div class="flex items-center justify-between p-3 bg-gray-50 rounded-lg" data-file-id="${file.id}">
@@ -120,7 +126,13 @@
                                                         <p class="text-sm font-medium text-gray-900">${file.originalFilename}</p>
                                                         <p class="text-xs text-gray-500">${file.fileSize} bytes</p>
                                                         <!-- 이미지는 직접 링크로 접근 -->
-                                                        <a href="/uploads/images/${file.storedFilename}" target="_blank" 
+                                                        <c:set var="imageUrl" value="${not empty file.webUrl ? file.webUrl : '/uploads/images/'.concat(file.storedFilename)}" />
+                                                        <!-- 썸네일이 아직 없으면 원본 사용 -->
+                                                        <a href="${imageUrl}" target="_blank">
+                                                            <img src="${not empty file.thumbnailUrl ? file.thumbnailUrl : imageUrl}" alt="${file.originalFilename}"
+                                                                 loading="lazy" class="mt-1 max-h-40 rounded border border-gray-200">
+                                                        </a>
+                                                        <a href="${imageUrl}" target="_blank" 
                                                            class="text-blue-600 hover:text-blue-800 text-xs">이미지 보기</a>
                                                     </div>
                                                 </c:when>
@@ -0,0 +1,117 @@
+package io.goorm.backend.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * stripXSS(한 번 훑는 방식)와 이전 정규식 구현 비교
+ * 이전 구현에서 '<'를 먼저 바꾼 뒤 적용하던 태그 패턴은 일치할 수 없었으므로 제외
+ */
+class XSSFilterTest {
+
+  // 이전 구현 (replaceAll 연쇄)
+  private static String legacyStripXSS(String value) {
+    if (value == null) {
+      return null;
+    }
+    value = value.replaceAll("<", "&lt;").replaceAll(">", "&gt;");
+    value = value.replaceAll("(?i)<script.*?>.*?</script.*?>", "");
+    value = value.replaceAll("(?i)<script.*?>", "");
+    value = value.replaceAll("(?i)on\\w+\\s*=", "");
+    value = value.replaceAll("(?i)javascript:", "");
+    value = value.replaceAll("(?i)vbscript:", "");
+    value = value.replaceAll("(?i)expression\\s*\\(", "");
+    value = value.replaceAll("(?i)eval\\s*\\(", "");
+    value = value.replaceAll("(?i)<iframe.*?>.*?</iframe.*?>", "");
+    value = value.replaceAll("(?i)<object.*?>.*?</object.*?>", "");
+    value = value.replaceAll("(?i)<embed.*?>", "");
+    return value;
+  }
+
+  // 이전 구현을 더 바뀌지 않을 때까지 반복 적용한 결과
+  private static String legacyFixpoint(String value) {
+    String previous;
+    do {
+      previous = value;
+      value = legacyStripXSS(value);
+    } while (!value.equals(previous));
+    return value;
+  }
+
+  private static String strip(String value) {
+    return XSSFilter.XSSRequestWrapper.stripXSS(value);
+  }
+
+  @Test
+  void nullStaysNull() {
+    assertNull(strip(null));
+  }
+
+  @Test
+  void unchangedValueReturnsSameInstance() {
+    String[] values = { "", "안녕하세요 게시판입니다", "hello world", "price = 100", "button", "2024-01-01 12:00",
+        "on", "on=", "evaluation (draft)", "https://example.com/a?b=c&d=e" };
+    for (String value : values) {
+      assertSame(value, strip(value), value);
+    }
+  }
+
+  @Test
+  void matchesLegacyOnTypicalInputs() {
+    String[] values = {
+        "<script>alert('xss')</script>",
+        "<img src=x onerror=alert(1)>",
+        "<a href=\"javascript:alert(1)\">링크</a>",
+        "<div style=\"width: expression(alert(1))\">",
+        "VBScript:msgbox(1)",
+        "eval (document.cookie)",
+        "ONCLICK = steal()",
+        "onmouseover\t=x",
+        "제목 <b>굵게</b> & 본문",
+        "한글 onload=alert(1) 섞인 문장",
+        "JaVaScRiPt:void(0)",
+        "expression\n(1)",
+    };
+    for (String value : values) {
+      assertEquals(legacyStripXSS(value), strip(value), value);
+    }
+  }
+
+  @Test
+  void splicedPatternsAreRemovedUntilStable() {
+    // 이전 구현은 한 번만 지워서 앞뒤가 붙어 생긴 패턴이 남음
+    assertEquals("javascript:", legacyStripXSS("javajavascript:script:"));
+    assertEquals("", strip("javajavascript:script:"));
+
+    assertEquals("onclick=x", legacyStripXSS("oonclick=nclick=x"));
+    assertEquals("x", strip("oonclick=nclick=x"));
+
+    assertEquals("expression(", legacyStripXSS("expexpression(ression("));
+    assertEquals("", strip("expexpression(ression("));
+
+    assertEquals("eval(1)", legacyStripXSS("eveval(al(1)"));
+    assertEquals("1)", strip("eveval(al(1)"));
+  }
+
+  @Test
+  void matchesLegacyFixpointOnRandomInputs() {
+    String[] fragments = { "on", "On", "click", "=", "  ", "\t", "\n", "<", ">", "javascript:", "JavaScript:",
+        "vbscript:", "expression", "eval", "(", "가나다", "게시글", "hello", "_", "1", " ", "x", "ja", "vascript:",
+        "&", "\"", "'" };
+    Random random = new Random(20261018L);
+    for (int n = 0; n < 200_000; n++) {
+      StringBuilder input = new StringBuilder();
+      int count = random.nextInt(8);
+      for (int i = 0; i < count; i++) {
+        input.append(fragments[random.nextInt(fragments.length)]);
+      }
+      String value = input.toString();
+      assertEquals(legacyFixpoint(value), strip(value), value);
+    }
+  }
+}